@@ -0,0 +1,127 @@
+package com.rewardapp.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.rewardapp.config.SampledTraceFilter;
+import com.rewardapp.dto.RewardDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Logging cost of one POST /api/rewards on the request thread, with Spring Boot's console pattern written to a
+// file under target/ (stdout would flood the JMH output):
+//   sync           - before: controller and service lines at INFO through a synchronous appender
+//   async          - the same lines through the async-logging profile's bounded, non-blocking queue
+//   async-sampled  - per-call traces at DEBUG with a 1% sample, one INFO line, async appender
+// A full async queue drops events instead of blocking, which is part of what the async modes measure.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p 1234 --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"sync", "async", "async-sampled"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private boolean traceAtDebug;
+    private RewardDTO dto;
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+        context.start();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile("target/jmh-logging-" + mode + ".log");
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!mode.equals("sync")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        if (mode.equals("async-sampled")) {
+            SampledTraceFilter sampling = new SampledTraceFilter();
+            sampling.setContext(context);
+            sampling.setSampleRate(0.01);
+            sampling.start();
+            context.addTurboFilter(sampling);
+            traceAtDebug = true;
+        }
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        controllerLog = context.getLogger("com.rewardapp.controller.RewardController");
+        serviceLog = context.getLogger("com.rewardapp.service.RewardService");
+
+        dto = RewardDTO.builder()
+                .employeeId(42L)
+                .rewardName("Employee of the Month")
+                .dateAwarded(LocalDate.of(2024, 6, 1))
+                .rewardType("Performance")
+                .points(250)
+                .description("Outstanding performance in Q2")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void assignRewardLogging() {
+        long rewardId = ++id;
+        if (traceAtDebug) {
+            controllerLog.debug("REST request to assign reward: {}", dto);
+            serviceLog.debug("Assigning reward '{}' to employee id: {}", dto.getRewardName(), dto.getEmployeeId());
+        } else {
+            controllerLog.info("REST request to assign reward: {}", dto);
+            serviceLog.info("Assigning reward '{}' to employee id: {}", dto.getRewardName(), dto.getEmployeeId());
+        }
+        serviceLog.info("Reward assigned successfully with id: {}", rewardId);
+    }
+}
@@ -0,0 +1,133 @@
+package com.rewardapp.benchmark;
+
+import com.rewardapp.EmployeeRewardsApplication;
+import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.repository.EmployeeRewardSummaryRepository;
+import com.rewardapp.repository.RewardRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Repository hot paths against an embedded H2 seeded with 10k employees and 100k rewards
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final int REWARDS_PER_EMPLOYEE = 10;
+    private static final String[] DEPARTMENTS = {"Engineering", "Marketing", "HR", "Sales", "Finance"};
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private RewardRepository rewardRepository;
+    private EmployeeRewardSummaryRepository summaryRepository;
+    private List<Long> pageOfIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeRewardsApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        rewardRepository = context.getBean(RewardRepository.class);
+        summaryRepository = context.getBean(EmployeeRewardSummaryRepository.class);
+        seed(context.getBean(JdbcTemplate.class));
+        pageOfIds = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            pageOfIds.add(id * 100);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object employeeById() {
+        return employeeRepository.findById(randomEmployeeId());
+    }
+
+    @Benchmark
+    public Object employeesByDepartment() {
+        return employeeRepository.findByDepartmentIgnoreCase("finance");
+    }
+
+    @Benchmark
+    public Object employeeKeysetPage() {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(randomEmployeeId(), Limit.of(50));
+    }
+
+    @Benchmark
+    public Object summariesForPage() {
+        return summaryRepository.findStatsByEmployeeIds(pageOfIds);
+    }
+
+    @Benchmark
+    public Object rewardFirstPage() {
+        return rewardRepository.findFirstPageWithEmployee(Limit.of(50));
+    }
+
+    @Benchmark
+    public Object rewardsForEmployee() {
+        return rewardRepository.findByEmployeeIdWithEmployee(randomEmployeeId());
+    }
+
+    @Benchmark
+    public Object rewardStatsForPage() {
+        return rewardRepository.findRewardStatsByEmployeeIds(pageOfIds);
+    }
+
+    private static long randomEmployeeId() {
+        return ThreadLocalRandom.current().nextLong(1, EMPLOYEES + 1);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> employees = new ArrayList<>(EMPLOYEES);
+        List<Object[]> rewards = new ArrayList<>(EMPLOYEES * REWARDS_PER_EMPLOYEE);
+        List<Object[]> summaries = new ArrayList<>(EMPLOYEES);
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            employees.add(new Object[]{id, "Employee " + id, DEPARTMENTS[(int) (id % DEPARTMENTS.length)],
+                    "employee" + id + "@example.com"});
+            for (int i = 0; i < REWARDS_PER_EMPLOYEE; i++) {
+                long rewardId = (id - 1) * REWARDS_PER_EMPLOYEE + i + 1;
+                rewards.add(new Object[]{rewardId, id, "Award " + rewardId,
+                        Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(rewardId % 365)), "Performance", 100});
+            }
+            summaries.add(new Object[]{id, REWARDS_PER_EMPLOYEE, REWARDS_PER_EMPLOYEE * 100});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, department, email) VALUES (?, ?, ?, ?)", employees);
+        jdbcTemplate.batchUpdate("INSERT INTO rewards (id, employee_id, reward_name, date_awarded, reward_type, points) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rewards);
+        jdbcTemplate.batchUpdate("INSERT INTO employee_reward_summary (employee_id, reward_count, total_points) " +
+                "VALUES (?, ?, ?)", summaries);
+    }
+}
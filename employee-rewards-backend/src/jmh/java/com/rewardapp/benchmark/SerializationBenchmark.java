@@ -0,0 +1,78 @@
+package com.rewardapp.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.dto.RewardDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson cost of the GET /api/rewards response body, with the ObjectMapper configured as Spring MVC does
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "500"})
+    private int rewards;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter typedWriter;
+    private ApiResponse<List<RewardDTO>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        typedWriter = objectMapper.writerFor(new TypeReference<ApiResponse<List<RewardDTO>>>() { });
+        List<RewardDTO> data = new ArrayList<>(rewards);
+        for (int i = 0; i < rewards; i++) {
+            data.add(RewardDTO.builder()
+                    .id((long) i)
+                    .employeeId((long) (i % 50))
+                    .employeeName("Employee " + (i % 50))
+                    .employeeDepartment("Engineering")
+                    .rewardName("Employee of the Month")
+                    .dateAwarded(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .rewardType("Performance")
+                    .points(100 + i % 400)
+                    .description("Outstanding performance in Q3")
+                    .build());
+        }
+        response = ApiResponse.success(data);
+    }
+
+    @Benchmark
+    public byte[] objectMapperBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] typedWriterBytes() throws JsonProcessingException {
+        return typedWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public String objectMapperString() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(response);
+    }
+}
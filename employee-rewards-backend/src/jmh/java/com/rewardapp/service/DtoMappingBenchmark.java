@@ -0,0 +1,102 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.repository.EmployeeRewardStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Lives in the service package to reach the package-private toDTO mappers.
+// EmployeeService is built without collaborators: its mapper only reads the entity passed in.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private EmployeeService employeeService;
+    private Employee employee;
+    private EmployeeRewardStats summary;
+    private Reward reward;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeService(null, null, null, null, null, null, null, null, null, null);
+        employee = Employee.builder()
+                .id(42L)
+                .name("Monu Dwivedi")
+                .department("Engineering")
+                .email("monudwivedi@company.com")
+                .jobTitle("Senior Java Developer")
+                .build();
+        summary = new Stats(42L, 12, 3_400, LocalDate.of(2024, 3, 31));
+        reward = Reward.builder()
+                .id(7L)
+                .employee(employee)
+                .rewardName("Employee of the Month")
+                .rewardType("Performance")
+                .dateAwarded(LocalDate.of(2024, 3, 31))
+                .points(500)
+                .description("Outstanding performance in Q3")
+                .build();
+    }
+
+    @Benchmark
+    public EmployeeDTO employeeToDTO() {
+        return employeeService.toDTO(employee, summary);
+    }
+
+    @Benchmark
+    public RewardDTO rewardToDTO() {
+        return RewardService.toDTO(reward);
+    }
+
+    // Lombok builder: one extra builder object per DTO compared with the all-args constructor
+    @Benchmark
+    public RewardDTO rewardDtoBuilder() {
+        return RewardDTO.builder()
+                .id(reward.getId())
+                .employeeId(employee.getId())
+                .employeeName(employee.getName())
+                .employeeDepartment(employee.getDepartment())
+                .rewardName(reward.getRewardName())
+                .dateAwarded(reward.getDateAwarded())
+                .rewardType(reward.getRewardType())
+                .points(reward.getPoints())
+                .description(reward.getDescription())
+                .build();
+    }
+
+    @Benchmark
+    public RewardDTO rewardDtoConstructor() {
+        return new RewardDTO(reward.getId(), employee.getId(), employee.getName(), employee.getDepartment(),
+                reward.getRewardName(), reward.getDateAwarded(), reward.getRewardType(), reward.getPoints(),
+                reward.getDescription());
+    }
+
+    @Benchmark
+    public void employeeBuilderBaseline(Blackhole blackhole) {
+        blackhole.consume(Employee.builder().id(42L).name("Monu Dwivedi").department("Engineering").build());
+    }
+
+    // Stands in for the projection EmployeeRewardSummaryRepository returns
+    record Stats(Long getEmployeeId, long getRewardCount, long getTotalPoints, LocalDate getLastAwardDate)
+            implements EmployeeRewardStats {
+    }
+}
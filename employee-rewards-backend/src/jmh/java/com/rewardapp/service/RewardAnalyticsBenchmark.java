@@ -0,0 +1,70 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.AnalyticsReport;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cube filled through the write hooks (no transaction, so they apply immediately) at roughly
+// SyntheticDataGenerator's shape: 10 departments x 8 reward types x 36 months.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RewardAnalyticsBenchmark {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing", "Finance", "HR",
+            "Operations", "Support", "Legal", "Product", "Design"};
+    private static final String[] TYPES = {"Employee of the Month", "Performance", "Innovation", "Teamwork",
+            "Leadership", "Customer Service", "Most Improved", "Best New Employee"};
+
+    private RewardAnalyticsService analyticsService;
+
+    @Setup
+    public void setUp() {
+        analyticsService = new RewardAnalyticsService(null, new SnapshotGate(() -> { }));
+        List<Reward> rewards = new ArrayList<>();
+        LocalDate start = LocalDate.of(2022, 1, 1);
+        for (String department : DEPARTMENTS) {
+            Employee employee = Employee.builder().department(department).build();
+            for (String type : TYPES) {
+                for (int month = 0; month < 36; month++) {
+                    rewards.add(Reward.builder().employee(employee).rewardType(type)
+                            .dateAwarded(start.plusMonths(month)).points(10 + month).build());
+                }
+            }
+        }
+        analyticsService.recordRewards(rewards);
+    }
+
+    @Benchmark
+    public AnalyticsReport fullCube() {
+        return analyticsService.query(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public AnalyticsReport departmentByMonthSlice() {
+        return analyticsService.query("Engineering", null, "2023-01", "2023-12", List.of("month"));
+    }
+
+    @Benchmark
+    public AnalyticsReport departmentRollUp() {
+        return analyticsService.query(null, null, null, null, List.of("department"));
+    }
+}
@@ -1,9 +1,12 @@
 package com.rewardapp;
 
+import com.rewardapp.config.RewardAppRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(RewardAppRuntimeHints.class)
 public class EmployeeRewardsApplication {
     public static void main(String[] args) {
         SpringApplication.run(EmployeeRewardsApplication.class, args);
@@ -0,0 +1,47 @@
+package com.rewardapp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String DEPARTMENTS = "departments";
+    public static final String REWARD_TYPES = "rewardTypes";
+
+    // Evictions are deferred to commit so a concurrent read cannot re-cache data from before the write
+    @Bean
+    CacheManager cacheManager(@Value("${rewards.cache.employees.maximum-size:10000}") long employeesMaximumSize,
+                              @Value("${rewards.cache.employees.ttl:10m}") Duration employeesTtl,
+                              @Value("${rewards.cache.departments.ttl:10m}") Duration departmentsTtl,
+                              @Value("${rewards.cache.reward-types.ttl:1h}") Duration rewardTypesTtl) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        caffeine.setAllowNullValues(false);
+        caffeine.registerCustomCache(EMPLOYEES, Caffeine.newBuilder()
+                .maximumSize(employeesMaximumSize)
+                .expireAfterWrite(employeesTtl)
+                .recordStats()
+                .build());
+        caffeine.registerCustomCache(DEPARTMENTS, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(departmentsTtl)
+                .recordStats()
+                .build());
+        caffeine.registerCustomCache(REWARD_TYPES, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(rewardTypesTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
@@ -0,0 +1,55 @@
+package com.rewardapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Opt-in read/write split, enabled by rewards.datasource.replica.jdbc-url (see the replica profile).
+// The primary pool keeps the spring.datasource settings; read-only transactions go to the replica pool.
+@Configuration
+@ConditionalOnProperty(name = "rewards.datasource.replica.jdbc-url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Binds straight onto Hikari: jdbc-url, username, password, maximum-pool-size, ...
+    @Bean
+    @ConfigurationProperties("rewards.datasource.replica")
+    HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                          @Qualifier("replicaDataSource") DataSource replica,
+                          @Value("${rewards.datasource.routing.stickiness:2s}") Duration stickiness) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, stickiness);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(@Value("${rewards.datasource.routing.stickiness:2s}") Duration stickiness) {
+        return new ReadYourWritesFilter(stickiness);
+    }
+}
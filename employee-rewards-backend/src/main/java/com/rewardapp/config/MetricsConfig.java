@@ -0,0 +1,90 @@
+package com.rewardapp.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.HibernateQueryMetrics;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Service timers come from @Timed(SERVICE_TIMER) on the service classes, repository timers
+// (spring.data.repository.invocations), http.server.requests and hikaricp.* from Spring Boot itself.
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "rewardapp.service";
+    static final String REQUEST_STATEMENTS = "rewardapp.http.statements";
+
+    private static final String SESSION_FACTORY_NAME = "entityManagerFactory";
+
+    @Bean
+    TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        return registry -> {
+            new HibernateMetrics(sessionFactory, SESSION_FACTORY_NAME, Tags.empty()).bindTo(registry);
+            new HibernateQueryMetrics(sessionFactory, SESSION_FACTORY_NAME, Tags.empty()).bindTo(registry);
+        };
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    // Statements per request, tagged like http.server.requests, so a new N+1 shows up per endpoint
+    @Bean
+    WebMvcConfigurer statementCountInterceptor(MeterRegistry registry) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry interceptors) {
+                interceptors.addInterceptor(new AsyncHandlerInterceptor() {
+                    @Override
+                    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                        StatementCounter.start();
+                        return true;
+                    }
+
+                    @Override
+                    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                                               Object handler) {
+                        StatementCounter.stop();
+                    }
+
+                    @Override
+                    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                                Object handler, Exception ex) {
+                        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                        DistributionSummary.builder(REQUEST_STATEMENTS)
+                                .description("SQL statements prepared while handling a request")
+                                .tag("method", request.getMethod())
+                                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                                .publishPercentileHistogram()
+                                .minimumExpectedValue(1.0)
+                                .maximumExpectedValue(1_000.0)
+                                .register(registry)
+                                .record(StatementCounter.stop());
+                    }
+                }).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
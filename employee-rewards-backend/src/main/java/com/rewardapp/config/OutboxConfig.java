@@ -0,0 +1,44 @@
+package com.rewardapp.config;
+
+import com.rewardapp.repository.OutboxEventRepository;
+import com.rewardapp.service.FileOutboxSink;
+import com.rewardapp.service.InMemoryOutboxSink;
+import com.rewardapp.service.OutboxRelay;
+import com.rewardapp.service.OutboxSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+// Opt-in (rewards.outbox.enabled) relay of the outbox written by OutboxService
+@Configuration
+@ConditionalOnProperty(name = "rewards.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "rewards.outbox.sink", havingValue = "file")
+    OutboxSink fileOutboxSink(@Value("${rewards.outbox.file}") Path file) {
+        return new FileOutboxSink(file);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "rewards.outbox.sink", havingValue = "memory", matchIfMissing = true)
+    OutboxSink inMemoryOutboxSink() {
+        return new InMemoryOutboxSink();
+    }
+
+    @Bean
+    OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${rewards.outbox.batch-size}") int batchSize,
+                            @Value("${rewards.outbox.max-batches-per-run}") int maxBatchesPerRun,
+                            MeterRegistry registry) {
+        return new OutboxRelay(outboxEventRepository, sink, new TransactionTemplate(transactionManager),
+                batchSize, maxBatchesPerRun, registry);
+    }
+}
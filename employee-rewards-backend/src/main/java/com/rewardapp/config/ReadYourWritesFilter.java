@@ -0,0 +1,90 @@
+package com.rewardapp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// Read-your-writes for replica routing, per client: the time of a client's last write travels in a cookie,
+// and this filter binds it to the request thread. ReplicaRoutingDataSource keeps read-only transactions of a
+// client that wrote within the stickiness window on the primary and records the writes of the request, which
+// go back to the client as the cookie. Other clients and background jobs keep reading from the replica.
+class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "rewards-last-write";
+
+    private static final ThreadLocal<Client> CURRENT = new ThreadLocal<>();
+
+    private final Duration stickiness;
+
+    ReadYourWritesFilter(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CURRENT.set(new Client(lastWrite(request), response, stickiness));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    // False outside a request: scheduled jobs and startup work have no writes of their own to read back
+    static boolean wroteWithin(Duration window) {
+        Client client = CURRENT.get();
+        return client != null && System.currentTimeMillis() - client.lastWriteMillis < window.toMillis();
+    }
+
+    static void recordWrite() {
+        Client client = CURRENT.get();
+        if (client != null) {
+            client.written(System.currentTimeMillis());
+        }
+    }
+
+    private static long lastWrite(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie != null) {
+            try {
+                return Long.parseLong(cookie.getValue());
+            } catch (NumberFormatException ex) {
+                // A tampered or foreign value only costs the client its stickiness
+            }
+        }
+        return 0;
+    }
+
+    private static final class Client {
+
+        private long lastWriteMillis;
+        private final HttpServletResponse response;
+        private final Duration stickiness;
+
+        Client(long lastWriteMillis, HttpServletResponse response, Duration stickiness) {
+            this.lastWriteMillis = lastWriteMillis;
+            this.response = response;
+            this.stickiness = stickiness;
+        }
+
+        // Writes complete before the body is rendered, so the response normally still takes the cookie
+        void written(long millis) {
+            lastWriteMillis = millis;
+            if (!response.isCommitted()) {
+                Cookie cookie = new Cookie(COOKIE, Long.toString(millis));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge((int) Math.max(1, stickiness.toSeconds() + 1));
+                response.addCookie(cookie);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.rewardapp.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+// Sends connections of read-only transactions to the replica and everything else to the primary.
+// For a stickiness window after a client's write completes, that client's read-only transactions stay on
+// the primary too (ReadYourWritesFilter), so it reads back what it wrote. Other clients may still read from a
+// replica that has not caught up; shared caches it repopulates expire with their TTL.
+// Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only set once the transaction
+// has begun, after JpaTransactionManager asked for a connection.
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Duration stickiness;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration stickiness) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReadYourWritesFilter.wroteWithin(stickiness) ? Target.PRIMARY : Target.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ReadYourWritesFilter.recordWrite();
+                }
+            });
+        } else {
+            // Auto-commit access (JdbcTemplate, Flyway): treat as a write as it happens
+            ReadYourWritesFilter.recordWrite();
+        }
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,63 @@
+package com.rewardapp.config;
+
+import com.rewardapp.dto.AnalyticsCellDTO;
+import com.rewardapp.dto.AnalyticsReport;
+import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.dto.CursorPage;
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.EmployeeImportResult;
+import com.rewardapp.dto.LeaderboardEntryDTO;
+import com.rewardapp.dto.RewardBatchRequest;
+import com.rewardapp.dto.RewardBatchResult;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.EmployeeRewardSummary;
+import com.rewardapp.entity.OutboxEvent;
+import com.rewardapp.entity.Reward;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+// Reflection and resource metadata for the native image (mvn -Pnative native:compile). AOT already infers
+// the controller signatures; these cover what it cannot see: DTOs that only appear as type arguments of
+// ApiResponse/CursorPage or in request bodies, the Lombok-generated accessors and no-arg constructors
+// Jackson binds through, the entities, the payloads serialized by the outbox and the live feed, and the
+// vendor-specific Flyway migrations below db/migration.
+public class RewardAppRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> JSON_TYPES = List.of(ApiResponse.class, CursorPage.class, EmployeeDTO.class,
+            RewardDTO.class, LeaderboardEntryDTO.class, AnalyticsReport.class, AnalyticsCellDTO.class,
+            EmployeeImportResult.class, RewardBatchRequest.class, RewardBatchResult.class);
+
+    static final List<Class<?>> ENTITIES = List.of(Employee.class, Reward.class, EmployeeRewardSummary.class,
+            OutboxEvent.class);
+
+    // Package-private records of the service layer, resolved by name
+    static final List<String> PAYLOADS = List.of(
+            "com.rewardapp.service.OutboxService$RewardPayload",
+            "com.rewardapp.service.OutboxService$EmployeePayload",
+            "com.rewardapp.service.RewardStreamService$EmployeeDeleted");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+        for (String payload : PAYLOADS) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    ClassUtils.resolveClassName(payload, classLoader));
+        }
+        // Hibernate instantiates entities and reads their fields reflectively; Jackson also binds Employee/Reward
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        // Boot only registers db/migration/*; the migrations live in common/ and {vendor}/ below it
+        hints.resources().registerPattern("db/migration/*/*.sql");
+    }
+}
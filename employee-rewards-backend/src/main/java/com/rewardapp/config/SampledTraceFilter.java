@@ -0,0 +1,34 @@
+package com.rewardapp.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Per-call traces are logged at DEBUG. With the logger at INFO this filter still lets a random sample of them
+// through (rewards.logging.trace-sample-rate, wired in logback-spring.xml), so production keeps a trickle of
+// request traces without paying for formatting and writing every one. Arguments of dropped calls are never rendered.
+public class SampledTraceFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.rewardapp";
+    private double sampleRate;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (sampleRate <= 0 || level != Level.DEBUG || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
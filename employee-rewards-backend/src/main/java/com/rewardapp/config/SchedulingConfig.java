@@ -0,0 +1,11 @@
+package com.rewardapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// The scheduler pool is sized in application.properties (spring.task.scheduling.pool.size) so each job has
+// its own thread; with the virtual-threads profile every run gets a virtual thread instead
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,60 @@
+package com.rewardapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.controller.SnapshotInterceptor;
+import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.service.DataVersions;
+import com.rewardapp.service.EmployeeService;
+import com.rewardapp.service.ResponseSnapshots;
+import com.rewardapp.service.RewardService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Opt-in (rewards.snapshots.enabled) pre-serialized responses for the heavy list endpoints
+@Configuration
+@ConditionalOnProperty(name = "rewards.snapshots.enabled", havingValue = "true")
+public class SnapshotConfig {
+
+    @Bean
+    ResponseSnapshots responseSnapshots(@Value("${rewards.snapshots.paths}") List<String> paths,
+                                        @Value("${rewards.snapshots.max-size}") DataSize maxSize,
+                                        EmployeeService employeeService, RewardService rewardService,
+                                        DataVersions dataVersions, ObjectMapper objectMapper,
+                                        MeterRegistry registry) {
+        Map<String, ResponseSnapshots.Source> available = Map.of(
+                "/api/rewards", new ResponseSnapshots.Source("/api/rewards", dataVersions::rewardListTag,
+                        () -> ApiResponse.success(rewardService.getAllRewards())),
+                "/api/employees", new ResponseSnapshots.Source("/api/employees", dataVersions::employeeListTag,
+                        () -> ApiResponse.success(employeeService.getAllEmployees())));
+        List<ResponseSnapshots.Source> sources = new ArrayList<>();
+        for (String path : paths) {
+            ResponseSnapshots.Source source = available.get(path.trim());
+            if (source == null) {
+                throw new IllegalStateException("No response snapshot available for " + path
+                        + "; supported paths are " + available.keySet());
+            }
+            sources.add(source);
+        }
+        return new ResponseSnapshots(sources, objectMapper, maxSize.toBytes(), registry);
+    }
+
+    @Bean
+    WebMvcConfigurer snapshotInterceptor(ResponseSnapshots responseSnapshots) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new SnapshotInterceptor(responseSnapshots)).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
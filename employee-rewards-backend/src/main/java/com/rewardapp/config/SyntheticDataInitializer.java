@@ -0,0 +1,38 @@
+package com.rewardapp.config;
+
+import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.service.RewardSummaryService;
+import com.rewardapp.service.SyntheticDataGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// Production-scale data for load testing: SPRING_PROFILES_ACTIVE=synthetic-data (skipped if employees exist
+// beyond the sample data). Summaries are rebuilt here; the leaderboard and search index load on startup.
+@Configuration
+@Profile("synthetic-data")
+@Slf4j
+public class SyntheticDataInitializer {
+
+    @Bean
+    CommandLineRunner generateSyntheticData(SyntheticDataGenerator generator,
+                                            RewardSummaryService rewardSummaryService,
+                                            EmployeeRepository employeeRepository,
+                                            @Value("${rewards.synthetic-data.employees:100000}") int employees,
+                                            @Value("${rewards.synthetic-data.rewards:10000000}") long rewards,
+                                            @Value("${rewards.synthetic-data.batch-size:5000}") int batchSize,
+                                            @Value("${rewards.synthetic-data.seed:42}") long seed) {
+        return args -> {
+            if (employeeRepository.count() >= employees) {
+                log.info("Synthetic data already present, skipping generation");
+                return;
+            }
+            generator.generate(employees, rewards, batchSize, seed);
+            rewardSummaryService.rebuild();
+        };
+    }
+}
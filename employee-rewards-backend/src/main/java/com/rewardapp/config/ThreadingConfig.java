@@ -0,0 +1,30 @@
+package com.rewardapp.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@Slf4j
+public class ThreadingConfig {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logExecutionMode(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        String poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Request execution: virtual threads (connection pool size {})", poolSize);
+            return;
+        }
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("Virtual threads requested but running on Java {}; falling back to platform threads",
+                    Runtime.version().feature());
+        }
+        log.info("Request execution: platform threads (max {} workers, connection pool size {})",
+                environment.getProperty("server.tomcat.threads.max", "200"), poolSize);
+    }
+}
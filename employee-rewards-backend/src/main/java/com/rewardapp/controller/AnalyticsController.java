@@ -0,0 +1,40 @@
+package com.rewardapp.controller;
+
+import com.rewardapp.dto.AnalyticsReport;
+import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.service.RewardAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+@Slf4j
+public class AnalyticsController {
+
+    private final RewardAnalyticsService rewardAnalyticsService;
+
+    @Autowired
+    public AnalyticsController(RewardAnalyticsService rewardAnalyticsService) {
+        this.rewardAnalyticsService = rewardAnalyticsService;
+    }
+
+    // groupBy lists the dimensions to keep (department, rewardType, month); omitted ones are rolled up
+    @GetMapping("/points")
+    public ResponseEntity<ApiResponse<AnalyticsReport>> getPoints(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String rewardType,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) List<String> groupBy) {
+        log.debug("REST request to get points by {} for department: {}, reward type: {}, {} to {}",
+                groupBy, department, rewardType, from, to);
+        return ResponseEntity.ok(ApiResponse.success(
+                rewardAnalyticsService.query(department, rewardType, from, to, groupBy)));
+    }
+}
@@ -1,16 +1,25 @@
 package com.rewardapp.controller;
 
 import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.dto.CursorPage;
 import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.EmployeeImportResult;
+import com.rewardapp.service.DataVersions;
+import com.rewardapp.service.EmployeeImportService;
 import com.rewardapp.service.EmployeeService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -20,64 +29,94 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final DataVersions dataVersions;
     
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeImportService employeeImportService,
+                              DataVersions dataVersions) {
     	this.employeeService = employeeService;
+    	this.employeeImportService = employeeImportService;
+    	this.dataVersions = dataVersions;
     }
 
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getAllEmployees() {
-        log.info("REST request to get all employees");
-        return ResponseEntity.ok(ApiResponse.success(employeeService.getAllEmployees()));
+    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getAllEmployees(WebRequest request) {
+        log.debug("REST request to get all employees");
+        return ConditionalGet.respond(request, dataVersions.employeeListTag(),
+                () -> ApiResponse.success(employeeService.getAllEmployees()));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<EmployeeDTO>>> getEmployeePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("REST request to get employee page after cursor: {}", cursor);
+        return ResponseEntity.ok(ApiResponse.success(employeeService.getEmployeePage(cursor, limit)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<EmployeeDTO>> getEmployeeById(@PathVariable Long id) {
-        log.info("REST request to get employee with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(employeeService.getEmployeeById(id)));
+    public ResponseEntity<ApiResponse<EmployeeDTO>> getEmployeeById(@PathVariable Long id, WebRequest request) {
+        log.debug("REST request to get employee with id: {}", id);
+        return ConditionalGet.respond(request, dataVersions.employeeTag(id),
+                () -> ApiResponse.success(employeeService.getEmployeeById(id)));
     }
 
     @PostMapping
     public ResponseEntity<ApiResponse<EmployeeDTO>> createEmployee(@Valid @RequestBody EmployeeDTO dto) {
-        log.info("REST request to create employee: {}", dto);
+        log.debug("REST request to create employee: {}", dto);
         EmployeeDTO created = employeeService.createEmployee(dto);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Employee created successfully", created));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<EmployeeImportResult>> importEmployees(@RequestParam("file") MultipartFile file)
+            throws IOException {
+        log.debug("REST request to import employees from file: {}", file.getOriginalFilename());
+        EmployeeImportResult result;
+        try (InputStream in = file.getInputStream()) {
+            result = employeeImportService.importEmployees(in);
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+                "Imported " + result.getImported() + " employees, " + result.getFailed() + " rows failed", result));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<EmployeeDTO>> updateEmployee(
             @PathVariable Long id,
             @Valid @RequestBody EmployeeDTO dto) {
-        log.info("REST request to update employee with id: {}", id);
+        log.debug("REST request to update employee with id: {}", id);
         EmployeeDTO updated = employeeService.updateEmployee(id, dto);
         return ResponseEntity.ok(ApiResponse.success("Employee updated successfully", updated));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteEmployee(@PathVariable Long id) {
-        log.info("REST request to delete employee with id: {}", id);
+        log.debug("REST request to delete employee with id: {}", id);
         employeeService.deleteEmployee(id);
         return ResponseEntity.ok(ApiResponse.success("Employee deleted successfully", null));
     }
 
     @GetMapping("/department/{department}")
     public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getByDepartment(@PathVariable String department) {
-        log.info("REST request to get employees by department: {}", department);
+        log.debug("REST request to get employees by department: {}", department);
         return ResponseEntity.ok(ApiResponse.success(employeeService.getEmployeesByDepartment(department)));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> searchEmployees(@RequestParam String name) {
-        log.info("REST request to search employees by name: {}", name);
-        return ResponseEntity.ok(ApiResponse.success(employeeService.searchEmployees(name)));
+    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> searchEmployees(
+            @RequestParam String name,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("REST request to search employees by name: {}", name);
+        return ResponseEntity.ok(ApiResponse.success(employeeService.searchEmployees(name, limit)));
     }
 
     @GetMapping("/departments")
-    public ResponseEntity<ApiResponse<List<String>>> getAllDepartments() {
-        log.info("REST request to get all departments");
-        return ResponseEntity.ok(ApiResponse.success(employeeService.getAllDepartments()));
+    public ResponseEntity<ApiResponse<List<String>>> getAllDepartments(WebRequest request) {
+        log.debug("REST request to get all departments");
+        return ConditionalGet.respond(request, dataVersions.departmentsTag(),
+                () -> ApiResponse.success(employeeService.getAllDepartments()));
     }
 }
@@ -0,0 +1,34 @@
+package com.rewardapp.controller;
+
+import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.dto.LeaderboardEntryDTO;
+import com.rewardapp.service.LeaderboardService;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@CrossOrigin(origins = "*")
+@Slf4j
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @Autowired
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDTO>>> getLeaderboard(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("REST request to get leaderboard for department: {}", department);
+        return ResponseEntity.ok(ApiResponse.success(leaderboardService.getTop(department, limit)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.rewardapp.controller;
+
+import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.service.ReactiveRewardService;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking variants of the reward reads. Lists are newline-delimited JSON: each row is written as it
+// arrives and the next is requested only once the previous write completed, so a slow client throttles the
+// database cursor instead of buffering the whole result. No request thread waits on the database.
+@RestController
+@RequestMapping("/api/reactive/rewards")
+@CrossOrigin(origins = "*")
+@Slf4j
+public class ReactiveRewardController {
+
+    private final ReactiveRewardService reactiveRewardService;
+
+    @Autowired
+    public ReactiveRewardController(ReactiveRewardService reactiveRewardService) {
+        this.reactiveRewardService = reactiveRewardService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RewardDTO> getAllRewards() {
+        log.debug("REST request to stream all rewards");
+        return reactiveRewardService.getAllRewards();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ApiResponse<RewardDTO>> getRewardById(@PathVariable Long id) {
+        log.debug("REST request to get reward with id: {}", id);
+        return reactiveRewardService.getRewardById(id).map(ApiResponse::success);
+    }
+
+    @GetMapping(value = "/employee/{employeeId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RewardDTO> getRewardsByEmployee(@PathVariable Long employeeId) {
+        log.debug("REST request to stream rewards for employee id: {}", employeeId);
+        return reactiveRewardService.getRewardsByEmployee(employeeId);
+    }
+}
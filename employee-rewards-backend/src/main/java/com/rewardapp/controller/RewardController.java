@@ -1,9 +1,13 @@
 package com.rewardapp.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,12 +16,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.dto.CursorPage;
+import com.rewardapp.dto.RewardBatchRequest;
+import com.rewardapp.dto.RewardBatchResult;
 import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.service.DataVersions;
+import com.rewardapp.service.ExportFormat;
+import com.rewardapp.service.RewardBatchService;
+import com.rewardapp.service.RewardExportService;
 import com.rewardapp.service.RewardService;
+import com.rewardapp.service.RewardStreamService;
 
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
@@ -29,57 +46,115 @@ import lombok.extern.slf4j.Slf4j;
 public class RewardController {
 
     private final RewardService rewardService;
+    private final RewardExportService rewardExportService;
+    private final RewardBatchService rewardBatchService;
+    private final DataVersions dataVersions;
+    private final RewardStreamService rewardStreamService;
     
     @Autowired
-    public RewardController(RewardService rewardService) {
+    public RewardController(RewardService rewardService, RewardExportService rewardExportService,
+                            RewardBatchService rewardBatchService, DataVersions dataVersions,
+                            RewardStreamService rewardStreamService) {
     	this.rewardService = rewardService;
+    	this.rewardExportService = rewardExportService;
+    	this.rewardBatchService = rewardBatchService;
+    	this.dataVersions = dataVersions;
+    	this.rewardStreamService = rewardStreamService;
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<RewardDTO>>> getAllRewards() {
-        log.info("REST request to get all rewards");
-        return ResponseEntity.ok(ApiResponse.success(rewardService.getAllRewards()));
+    public ResponseEntity<ApiResponse<List<RewardDTO>>> getAllRewards(WebRequest request) {
+        log.debug("REST request to get all rewards");
+        return ConditionalGet.respond(request, dataVersions.rewardListTag(),
+                () -> ApiResponse.success(rewardService.getAllRewards()));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<RewardDTO>>> getRewardPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("REST request to get reward page after cursor: {}", cursor);
+        return ResponseEntity.ok(ApiResponse.success(rewardService.getRewardPage(cursor, limit)));
+    }
+
+    // Inclusive date range; on PostgreSQL only the monthly partitions overlapping it are read
+    @GetMapping("/range")
+    public ResponseEntity<ApiResponse<List<RewardDTO>>> getRewardsAwardedBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String rewardType) {
+        log.debug("REST request to get rewards awarded between {} and {} of type: {}", from, to, rewardType);
+        return ResponseEntity.ok(ApiResponse.success(rewardService.getRewardsAwardedBetween(from, to, rewardType)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRewards(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.debug("REST request to export rewards as {}", format);
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        StreamingResponseBody body = out -> rewardExportService.exportRewards(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"rewards." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // Live feed of reward changes; an EventSource reconnecting with Last-Event-ID resumes where it left off
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRewards(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("REST request to stream rewards after event: {}", lastEventId);
+        return rewardStreamService.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<RewardDTO>> getRewardById(@PathVariable Long id) {
-        log.info("REST request to get reward with id: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(rewardService.getRewardById(id)));
+    public ResponseEntity<ApiResponse<RewardDTO>> getRewardById(@PathVariable Long id, WebRequest request) {
+        log.debug("REST request to get reward with id: {}", id);
+        return ConditionalGet.respond(request, dataVersions.rewardTag(id),
+                () -> ApiResponse.success(rewardService.getRewardById(id)));
     }
 
     @GetMapping("/employee/{employeeId}")
     public ResponseEntity<ApiResponse<List<RewardDTO>>> getRewardsByEmployee(@PathVariable Long employeeId) {
-        log.info("REST request to get rewards for employee id: {}", employeeId);
+        log.debug("REST request to get rewards for employee id: {}", employeeId);
         return ResponseEntity.ok(ApiResponse.success(rewardService.getRewardsByEmployee(employeeId)));
     }
 
     @PostMapping
     public ResponseEntity<ApiResponse<RewardDTO>> assignReward(@Valid @RequestBody RewardDTO dto) {
-        log.info("REST request to assign reward: {}", dto);
+        log.debug("REST request to assign reward: {}", dto);
         RewardDTO created = rewardService.assignReward(dto);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Reward assigned successfully", created));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<RewardBatchResult>> assignRewards(@Valid @RequestBody RewardBatchRequest request) {
+        log.debug("REST request to assign {} rewards in batch", request.getRewards().size());
+        RewardBatchResult result = rewardBatchService.assignRewards(request.getRewards());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Rewards assigned successfully", result));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<RewardDTO>> updateReward(
             @PathVariable Long id,
             @Valid @RequestBody RewardDTO dto) {
-        log.info("REST request to update reward with id: {}", id);
+        log.debug("REST request to update reward with id: {}", id);
         RewardDTO updated = rewardService.updateReward(id, dto);
         return ResponseEntity.ok(ApiResponse.success("Reward updated successfully", updated));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteReward(@PathVariable Long id) {
-        log.info("REST request to delete reward with id: {}", id);
+        log.debug("REST request to delete reward with id: {}", id);
         rewardService.deleteReward(id);
         return ResponseEntity.ok(ApiResponse.success("Reward deleted successfully", null));
     }
 
     @GetMapping("/types")
     public ResponseEntity<ApiResponse<List<String>>> getRewardTypes() {
-        log.info("REST request to get all reward types");
+        log.debug("REST request to get all reward types");
         return ResponseEntity.ok(ApiResponse.success(rewardService.getAllRewardTypes()));
     }
 }
@@ -0,0 +1,16 @@
+package com.rewardapp.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsCellDTO {
+    private String department;
+    private String rewardType;
+    private String month;
+    private long points;
+    private long rewards;
+}
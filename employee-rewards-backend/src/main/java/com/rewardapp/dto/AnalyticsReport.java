@@ -0,0 +1,17 @@
+package com.rewardapp.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsReport {
+    private List<String> groupBy;
+    private long totalPoints;
+    private long totalRewards;
+    private List<AnalyticsCellDTO> cells;
+}
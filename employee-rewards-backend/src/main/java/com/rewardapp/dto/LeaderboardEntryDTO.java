@@ -0,0 +1,16 @@
+package com.rewardapp.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntryDTO {
+    private int rank;
+    private Long employeeId;
+    private String employeeName;
+    private String department;
+    private long totalPoints;
+}
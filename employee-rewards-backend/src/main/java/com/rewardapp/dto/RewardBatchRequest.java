@@ -0,0 +1,22 @@
+package com.rewardapp.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RewardBatchRequest {
+
+    public static final int MAX_BATCH_SIZE = 100_000;
+
+    @NotEmpty(message = "At least one reward is required")
+    @Size(max = MAX_BATCH_SIZE, message = "At most 100000 rewards can be assigned per batch")
+    private List<@Valid RewardDTO> rewards;
+}
@@ -0,0 +1,15 @@
+package com.rewardapp.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RewardBatchResult {
+    private int created;
+    private List<Long> ids;
+}
@@ -0,0 +1,29 @@
+package com.rewardapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "employee_reward_summary")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeRewardSummary {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "reward_count", nullable = false)
+    private long rewardCount;
+
+    @Column(name = "total_points", nullable = false)
+    private long totalPoints;
+
+    @Column(name = "last_award_date")
+    private LocalDate lastAwardDate;
+}
@@ -0,0 +1,21 @@
+package com.rewardapp.entity;
+
+public enum OutboxEventType {
+    REWARD_ASSIGNED("Reward"),
+    REWARD_UPDATED("Reward"),
+    REWARD_DELETED("Reward"),
+    EMPLOYEE_CREATED("Employee"),
+    EMPLOYEE_UPDATED("Employee"),
+    // Also stands for the deletion of all of the employee's rewards
+    EMPLOYEE_DELETED("Employee");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -18,8 +19,10 @@ import java.time.LocalDateTime;
 @Builder
 public class Reward {
 
+    // Sequence ids (pooled, 50 per round trip) keep JDBC insert batching available; IDENTITY disables it
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rewards_seq")
+    @SequenceGenerator(name = "rewards_seq", sequenceName = "rewards_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,13 +34,21 @@ public class Reward {
     @Column(name = "reward_name", nullable = false)
     private String rewardName;
 
+    // PostgreSQL range-partitions rewards by month on this column (see db/migration/postgresql/V5);
+    // Hibernate adds it to UPDATE and DELETE predicates so they touch a single partition
     @NotNull(message = "Award date is required")
+    @PartitionKey
     @Column(name = "date_awarded", nullable = false)
     private LocalDate dateAwarded;
 
     @Column(name = "reward_type")
     private String rewardType;
 
+    // Database-generated UPPER(reward_type) with its own index (see db/migration); only read by queries
+    @Setter(AccessLevel.NONE)
+    @Column(name = "reward_type_key", insertable = false, updatable = false)
+    private String rewardTypeKey;
+
     @Column(name = "points")
     private Integer points;
 
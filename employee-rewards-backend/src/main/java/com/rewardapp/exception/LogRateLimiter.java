@@ -0,0 +1,58 @@
+package com.rewardapp.exception;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// Fixed-window limiter for repetitive log lines: at most `permits` lines per key and interval. acquire()
+// returns -1 when the line should be dropped, otherwise how many lines for that key were dropped since the
+// last one that got through, so the next logged line can report them.
+class LogRateLimiter {
+
+    static final long SUPPRESSED = -1;
+
+    private final int permits;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    LogRateLimiter(int permits, Duration interval) {
+        this(permits, interval, System::nanoTime);
+    }
+
+    LogRateLimiter(int permits, Duration interval, LongSupplier nanoClock) {
+        this.permits = permits;
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    long acquire(String key) {
+        Window window = windows.computeIfAbsent(key, k -> new Window(nanoClock.getAsLong()));
+        synchronized (window) {
+            long now = nanoClock.getAsLong();
+            if (now - window.start >= intervalNanos) {
+                window.start = now;
+                window.logged = 0;
+            }
+            if (window.logged >= permits) {
+                window.suppressed++;
+                return SUPPRESSED;
+            }
+            window.logged++;
+            long suppressed = window.suppressed;
+            window.suppressed = 0;
+            return suppressed;
+        }
+    }
+
+    private static final class Window {
+        private long start;
+        private int logged;
+        private long suppressed;
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.rewardapp.repository;
+
+public interface EmployeePointsView {
+
+    Long getEmployeeId();
+
+    String getEmployeeName();
+
+    String getDepartment();
+
+    long getTotalPoints();
+}
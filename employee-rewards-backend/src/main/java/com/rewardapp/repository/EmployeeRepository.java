@@ -1,10 +1,12 @@
 package com.rewardapp.repository;
 
 import com.rewardapp.entity.Employee;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,11 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    // department_key is a generated UPPER(department) column with its own index (see db/migration)
+    @Query(value = "SELECT * FROM employees WHERE department_key = UPPER(:department)", nativeQuery = true)
     List<Employee> findByDepartmentIgnoreCase(String department);
 
     List<Employee> findByNameContainingIgnoreCase(String name);
@@ -24,4 +31,13 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.rewards WHERE e.id = :id")
     Optional<Employee> findByIdWithRewards(Long id);
+
+    List<Employee> findAllByOrderByIdAsc(Limit limit);
+
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // findAllById for id sets of any size: one query per chunk of IdChunks.SIZE ids
+    default List<Employee> findAllByIdInChunks(Collection<Long> ids) {
+        return IdChunks.query(ids, this::findAllById);
+    }
 }
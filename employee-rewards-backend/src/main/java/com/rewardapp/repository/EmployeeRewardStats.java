@@ -0,0 +1,14 @@
+package com.rewardapp.repository;
+
+import java.time.LocalDate;
+
+public interface EmployeeRewardStats {
+
+    Long getEmployeeId();
+
+    long getRewardCount();
+
+    long getTotalPoints();
+
+    LocalDate getLastAwardDate();
+}
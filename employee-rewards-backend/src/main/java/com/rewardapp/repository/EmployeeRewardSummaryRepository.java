@@ -0,0 +1,49 @@
+package com.rewardapp.repository;
+
+import com.rewardapp.entity.EmployeeRewardSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeRewardSummaryRepository extends JpaRepository<EmployeeRewardSummary, Long> {
+
+    // Summaries are read as EmployeeRewardStats projections, the same shape the grouped reward queries return
+    List<EmployeeRewardStats> findAllProjectedBy();
+
+    Optional<EmployeeRewardStats> findStatsByEmployeeId(Long employeeId);
+
+    List<EmployeeRewardStats> findStatsByEmployeeIdIn(Collection<Long> employeeIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EmployeeRewardSummary s SET s.rewardCount = s.rewardCount + :count, " +
+           "s.totalPoints = s.totalPoints + :points, " +
+           "s.lastAwardDate = CASE WHEN s.lastAwardDate IS NULL OR s.lastAwardDate < :dateAwarded " +
+           "THEN :dateAwarded ELSE s.lastAwardDate END " +
+           "WHERE s.employeeId = :employeeId")
+    int addAwards(Long employeeId, long count, long points, LocalDate dateAwarded);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EmployeeRewardSummary s SET s.rewardCount = s.rewardCount - 1, " +
+           "s.totalPoints = s.totalPoints - :points, " +
+           "s.lastAwardDate = (SELECT MAX(r.dateAwarded) FROM Reward r WHERE r.employee.id = :employeeId) " +
+           "WHERE s.employeeId = :employeeId")
+    int removeAward(Long employeeId, long points);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("INSERT INTO EmployeeRewardSummary (employeeId, rewardCount, totalPoints, lastAwardDate) " +
+           "SELECT r.employee.id, COUNT(r), COALESCE(SUM(r.points), 0), MAX(r.dateAwarded) " +
+           "FROM Reward r GROUP BY r.employee.id")
+    int insertFromRewards();
+
+    // findStatsByEmployeeIdIn for id sets of any size: one query per chunk of IdChunks.SIZE ids
+    default List<EmployeeRewardStats> findStatsByEmployeeIds(Collection<Long> employeeIds) {
+        return IdChunks.query(employeeIds, this::findStatsByEmployeeIdIn);
+    }
+}
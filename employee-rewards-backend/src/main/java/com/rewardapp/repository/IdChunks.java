@@ -0,0 +1,28 @@
+package com.rewardapp.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+// Splits an IN list across several queries. PostgreSQL's JDBC driver binds at most 32,767 parameters per
+// statement, so a batch naming more distinct ids than that would otherwise fail outright.
+final class IdChunks {
+
+    static final int SIZE = 1_000;
+
+    private IdChunks() {
+    }
+
+    static <T> List<T> query(Collection<Long> ids, Function<List<Long>, List<T>> query) {
+        List<Long> all = new ArrayList<>(ids);
+        if (all.size() <= SIZE) {
+            return query.apply(all);
+        }
+        List<T> results = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += SIZE) {
+            results.addAll(query.apply(all.subList(from, Math.min(from + SIZE, all.size()))));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,21 @@
+package com.rewardapp.repository;
+
+import com.rewardapp.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Locks the oldest unclaimed events; rows locked by another relay are skipped rather than waited on,
+    // so several relays drain disjoint batches concurrently
+    @Query(value = "SELECT * FROM outbox_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> claimBatch(int limit);
+
+    Optional<OutboxEvent> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,75 @@
+package com.rewardapp.repository;
+
+import com.rewardapp.dto.RewardDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+// Non-blocking reads over R2DBC, mapped straight to DTOs; the same joins and ordering as the JPA read
+// queries in RewardRepository. Rows are fetched in chunks as the subscriber requests them.
+@Repository
+public class ReactiveRewardRepository {
+
+    static final int FETCH_SIZE = 250;
+
+    private static final String SELECT_WITH_EMPLOYEE = "SELECT r.id, r.employee_id, e.name AS employee_name, "
+            + "e.department AS employee_department, r.reward_name, r.date_awarded, r.reward_type, r.points, "
+            + "r.description FROM rewards r JOIN employees e ON e.id = r.employee_id ";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveRewardRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<RewardDTO> findAllWithEmployee() {
+        return databaseClient.sql(SELECT_WITH_EMPLOYEE + "ORDER BY r.date_awarded DESC, r.id DESC")
+                .filter((statement, next) -> next.execute(statement.fetchSize(FETCH_SIZE)))
+                .map(ReactiveRewardRepository::toDTO)
+                .all();
+    }
+
+    public Flux<RewardDTO> findByEmployeeIdWithEmployee(Long employeeId) {
+        return databaseClient.sql(SELECT_WITH_EMPLOYEE + "WHERE r.employee_id = :employeeId "
+                        + "ORDER BY r.date_awarded DESC, r.id DESC")
+                .bind("employeeId", employeeId)
+                .filter((statement, next) -> next.execute(statement.fetchSize(FETCH_SIZE)))
+                .map(ReactiveRewardRepository::toDTO)
+                .all();
+    }
+
+    public Mono<RewardDTO> findByIdWithEmployee(Long id) {
+        return databaseClient.sql(SELECT_WITH_EMPLOYEE + "WHERE r.id = :id")
+                .bind("id", id)
+                .map(ReactiveRewardRepository::toDTO)
+                .one();
+    }
+
+    public Mono<Boolean> existsEmployee(Long employeeId) {
+        return databaseClient.sql("SELECT 1 FROM employees WHERE id = :employeeId")
+                .bind("employeeId", employeeId)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    private static RewardDTO toDTO(Readable row) {
+        return RewardDTO.builder()
+                .id(row.get("id", Long.class))
+                .employeeId(row.get("employee_id", Long.class))
+                .employeeName(row.get("employee_name", String.class))
+                .employeeDepartment(row.get("employee_department", String.class))
+                .rewardName(row.get("reward_name", String.class))
+                .dateAwarded(row.get("date_awarded", LocalDate.class))
+                .rewardType(row.get("reward_type", String.class))
+                .points(row.get("points", Integer.class))
+                .description(row.get("description", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.rewardapp.repository;
+
+import java.time.LocalDate;
+
+public interface RewardAggregateView {
+
+    String getDepartment();
+
+    String getRewardType();
+
+    LocalDate getDateAwarded();
+
+    long getTotalPoints();
+
+    long getRewardCount();
+}
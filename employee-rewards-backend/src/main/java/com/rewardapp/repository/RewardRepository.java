@@ -1,28 +1,107 @@
 package com.rewardapp.repository;
 
 import com.rewardapp.entity.Reward;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface RewardRepository extends JpaRepository<Reward, Long> {
 
     List<Reward> findByEmployeeId(Long employeeId);
 
+    // reward_type_key is a generated UPPER(reward_type) column with its own index (see db/migration)
+    @Query(value = "SELECT * FROM rewards WHERE reward_type_key = UPPER(:rewardType)", nativeQuery = true)
     List<Reward> findByRewardTypeIgnoreCase(String rewardType);
 
-    @Query("SELECT r FROM Reward r JOIN FETCH r.employee ORDER BY r.dateAwarded DESC")
+    // Fetch joins are LEFT joins (employee is never null) so rewards stay the driving table and the
+    // ORDER BY is read from idx_rewards_date_awarded_id / the primary key instead of sorting every row
+    @Query("SELECT r FROM Reward r LEFT JOIN FETCH r.employee ORDER BY r.dateAwarded DESC")
     List<Reward> findAllWithEmployee();
 
-    @Query("SELECT r FROM Reward r JOIN FETCH r.employee WHERE r.employee.id = :employeeId ORDER BY r.dateAwarded DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT r FROM Reward r LEFT JOIN FETCH r.employee ORDER BY r.id")
+    Stream<Reward> streamAllWithEmployee();
+
+    @Query("SELECT r FROM Reward r LEFT JOIN FETCH r.employee ORDER BY r.dateAwarded DESC, r.id DESC")
+    List<Reward> findFirstPageWithEmployee(Limit limit);
+
+    // The redundant upper bound on dateAwarded lets PostgreSQL prune newer partitions, which it cannot
+    // derive from the OR
+    @Query("SELECT r FROM Reward r LEFT JOIN FETCH r.employee " +
+           "WHERE r.dateAwarded <= :dateAwarded " +
+           "AND (r.dateAwarded < :dateAwarded OR (r.dateAwarded = :dateAwarded AND r.id < :id)) " +
+           "ORDER BY r.dateAwarded DESC, r.id DESC")
+    List<Reward> findPageWithEmployeeAfter(LocalDate dateAwarded, Long id, Limit limit);
+
+    // Date-range reads; bounds on the partition key prune PostgreSQL partitions outside [from, to]
+    @Query("SELECT r FROM Reward r LEFT JOIN FETCH r.employee " +
+           "WHERE r.dateAwarded BETWEEN :from AND :to ORDER BY r.dateAwarded DESC, r.id DESC")
+    List<Reward> findByDateAwardedBetweenWithEmployee(LocalDate from, LocalDate to);
+
+    @Query("SELECT r FROM Reward r LEFT JOIN FETCH r.employee " +
+           "WHERE r.dateAwarded BETWEEN :from AND :to AND r.rewardTypeKey = UPPER(:rewardType) " +
+           "ORDER BY r.dateAwarded DESC, r.id DESC")
+    List<Reward> findByRewardTypeIgnoreCaseAndDateAwardedBetweenWithEmployee(String rewardType, LocalDate from, LocalDate to);
+
+    @Query("SELECT r FROM Reward r LEFT JOIN FETCH r.employee WHERE r.employee.id = :employeeId ORDER BY r.dateAwarded DESC")
     List<Reward> findByEmployeeIdWithEmployee(Long employeeId);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Reward r WHERE r.employee.id = :employeeId")
+    int deleteByEmployeeId(Long employeeId);
+
     @Query("SELECT COUNT(r) FROM Reward r WHERE r.employee.id = :employeeId")
     long countByEmployeeId(Long employeeId);
 
     @Query("SELECT SUM(r.points) FROM Reward r WHERE r.employee.id = :employeeId")
     Integer sumPointsByEmployeeId(Long employeeId);
+
+    @Query("SELECT r.employee.id AS employeeId, COUNT(r) AS rewardCount, COALESCE(SUM(r.points), 0) AS totalPoints, " +
+           "MAX(r.dateAwarded) AS lastAwardDate " +
+           "FROM Reward r GROUP BY r.employee.id")
+    List<EmployeeRewardStats> findAllRewardStats();
+
+    @Query("SELECT r.employee.id AS employeeId, COUNT(r) AS rewardCount, COALESCE(SUM(r.points), 0) AS totalPoints, " +
+           "MAX(r.dateAwarded) AS lastAwardDate " +
+           "FROM Reward r WHERE r.employee.id IN :employeeIds GROUP BY r.employee.id")
+    List<EmployeeRewardStats> findRewardStatsByEmployeeIdIn(Collection<Long> employeeIds);
+
+    // One grouped query per chunk of IdChunks.SIZE ids; groups never span chunks since each id is in one
+    default List<EmployeeRewardStats> findRewardStatsByEmployeeIds(Collection<Long> employeeIds) {
+        return IdChunks.query(employeeIds, this::findRewardStatsByEmployeeIdIn);
+    }
+
+    // Reads no row, but as the first statement of a REPEATABLE READ transaction it fixes the snapshot of
+    // rewards and employees that the reload queries below then read (see SnapshotGate)
+    @Query("SELECT COUNT(r) FROM Reward r JOIN r.employee e WHERE 1 = 0")
+    long fixRewardSnapshot();
+
+    @Query("SELECT e.id AS employeeId, e.name AS employeeName, e.department AS department, " +
+           "COALESCE(SUM(r.points), 0) AS totalPoints " +
+           "FROM Reward r JOIN r.employee e GROUP BY e.id, e.name, e.department")
+    List<EmployeePointsView> findPointsPerEmployee();
+
+    // Grouped by day rather than month so the query stays portable; months are folded in by the caller
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.department AS department, r.rewardType AS rewardType, r.dateAwarded AS dateAwarded, " +
+           "COALESCE(SUM(r.points), 0) AS totalPoints, COUNT(r) AS rewardCount " +
+           "FROM Reward r JOIN r.employee e GROUP BY e.department, r.rewardType, r.dateAwarded")
+    Stream<RewardAggregateView> streamDailyAggregates();
+
+    @Query("SELECT e.department AS department, r.rewardType AS rewardType, r.dateAwarded AS dateAwarded, " +
+           "COALESCE(SUM(r.points), 0) AS totalPoints, COUNT(r) AS rewardCount " +
+           "FROM Reward r JOIN r.employee e WHERE e.id = :employeeId " +
+           "GROUP BY e.department, r.rewardType, r.dateAwarded")
+    List<RewardAggregateView> findDailyAggregatesByEmployeeId(Long employeeId);
 }
@@ -0,0 +1,146 @@
+package com.rewardapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Change stamps behind the ETags of the read endpoints, so a conditional GET is answered without a query.
+// Writers bump a table stamp and the stamps of the entities they touched after commit; every stamp comes
+// from one clock, and only once the cached entries of the write are evicted: a read in between would pair
+// the new tag with the old body and answer 304 for it until the next write. Tags carry a per-start epoch,
+// so a restart never answers 304 for a tag it did not issue.
+// Like the leaderboard and search index this state is per instance: writes must go through this instance.
+// Only the most recently stamped entities keep their own stamp; an entity without one (never written, evicted
+// or deleted) is tagged with the floor, a stamp at least as new as any stamp dropped from the caches.
+@Service
+public class DataVersions {
+
+    private volatile String epoch = newEpoch();
+    private final AtomicLong clock = new AtomicLong();
+    private volatile long employees;
+    private volatile long rewards;
+    private final AtomicLong floor = new AtomicLong();
+    private final Cache<Long, Long> employeeStamps;
+    private final Cache<Long, Long> rewardStamps;
+
+    @Autowired
+    public DataVersions(@Value("${rewards.versions.maximum-size:100000}") long maximumSize) {
+        this(maximumSize, ForkJoinPool.commonPool());
+    }
+
+    DataVersions(long maximumSize, Executor maintenance) {
+        this.employeeStamps = stamps(maximumSize, maintenance);
+        this.rewardStamps = stamps(maximumSize, maintenance);
+    }
+
+    // An employee's representation includes their reward totals, so reward writes stamp the employee too
+    public void employeeChanged(Long employeeId) {
+        AfterCommit.runLast(() -> {
+            long stamp = clock.incrementAndGet();
+            employees = stamp;
+            employeeStamps.put(employeeId, stamp);
+        });
+    }
+
+    public void employeesAdded() {
+        AfterCommit.runLast(() -> employees = clock.incrementAndGet());
+    }
+
+    // The floor moves past the delete before the stamp goes, so the deleted employee's tags never match again
+    public void employeeDeleted(Long employeeId) {
+        AfterCommit.runLast(() -> {
+            long stamp = clock.incrementAndGet();
+            employees = stamp;
+            rewards = stamp;
+            floor.accumulateAndGet(stamp, Math::max);
+            employeeStamps.invalidate(employeeId);
+        });
+    }
+
+    public void rewardChanged(Long rewardId, Long... employeeIds) {
+        AfterCommit.runLast(() -> {
+            long stamp = clock.incrementAndGet();
+            rewards = stamp;
+            if (rewardId != null) {
+                rewardStamps.put(rewardId, stamp);
+            }
+            for (Long employeeId : employeeIds) {
+                employeeStamps.put(employeeId, stamp);
+            }
+        });
+    }
+
+    public void rewardDeleted(Long rewardId, Long employeeId) {
+        AfterCommit.runLast(() -> {
+            long stamp = clock.incrementAndGet();
+            rewards = stamp;
+            floor.accumulateAndGet(stamp, Math::max);
+            rewardStamps.invalidate(rewardId);
+            employeeStamps.put(employeeId, stamp);
+        });
+    }
+
+    public void rewardsAdded(Iterable<Long> employeeIds) {
+        AfterCommit.runLast(() -> {
+            long stamp = clock.incrementAndGet();
+            rewards = stamp;
+            employeeIds.forEach(employeeId -> employeeStamps.put(employeeId, stamp));
+        });
+    }
+
+    // For writes that bypass the per-entity stamps, such as a summary rebuild: every issued tag becomes stale
+    public void invalidateAll() {
+        AfterCommit.runLast(() -> epoch = newEpoch());
+    }
+
+    // Employee lists carry reward totals and reward lists carry employee names, so both depend on both tables
+    public String employeeListTag() {
+        return epoch + "-el-" + employees + "-" + rewards;
+    }
+
+    public String departmentsTag() {
+        return epoch + "-d-" + employees;
+    }
+
+    public String rewardListTag() {
+        return epoch + "-rl-" + employees + "-" + rewards;
+    }
+
+    public String employeeTag(Long employeeId) {
+        return epoch + "-e" + employeeId + "-" + stamp(employeeStamps, employeeId);
+    }
+
+    // A reward shows its employee's name and department, which only change with an employee write
+    public String rewardTag(Long rewardId) {
+        return epoch + "-r" + rewardId + "-" + stamp(rewardStamps, rewardId) + "-" + employees;
+    }
+
+    private long stamp(Cache<Long, Long> stamps, Long id) {
+        Long stamp = stamps.getIfPresent(id);
+        return stamp != null ? stamp : floor.get();
+    }
+
+    // The eviction listener runs inside the entry's removal, so the floor covers a stamp before it disappears
+    private Cache<Long, Long> stamps(long maximumSize, Executor maintenance) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(maintenance)
+                .<Long, Long>evictionListener((id, stamp, cause) -> {
+                    if (stamp != null && cause.wasEvicted()) {
+                        floor.accumulateAndGet(stamp, Math::max);
+                    }
+                })
+                .build();
+    }
+
+    private static String newEpoch() {
+        return Long.toHexString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,242 @@
+package com.rewardapp.service;
+
+import com.rewardapp.config.CacheConfig;
+import com.rewardapp.config.MetricsConfig;
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.EmployeeImportResult;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.OutboxEventType;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class EmployeeImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "department", "email");
+
+    private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeSearchIndex searchIndex;
+    private final DataVersions dataVersions;
+    private final OutboxService outboxService;
+
+    @Autowired
+    public EmployeeImportService(EmployeeRepository employeeRepository, EntityManager entityManager,
+                                 Validator validator, PlatformTransactionManager transactionManager,
+                                 EmployeeSearchIndex searchIndex, DataVersions dataVersions,
+                                 OutboxService outboxService) {
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.searchIndex = searchIndex;
+        this.dataVersions = dataVersions;
+        this.outboxService = outboxService;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, allEntries = true)
+    public EmployeeImportResult importEmployees(InputStream csv) throws IOException {
+        log.info("Importing employees from CSV");
+        EmployeeImportResult result = new EmployeeImportResult();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(reader.readLine());
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            long lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Row row = parseRow(lineNumber, line, columns, result);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, result);
+        }
+        log.info("Employee import finished: {} imported, {} failed", result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private Map<String, Integer> readHeader(String header) {
+        if (header == null) {
+            throw new InvalidRequestException("CSV file is empty");
+        }
+        List<String> names = parseCsvLine(stripBom(header));
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new InvalidRequestException("CSV header is missing required column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private Row parseRow(long lineNumber, String line, Map<String, Integer> columns, EmployeeImportResult result) {
+        List<String> values;
+        try {
+            values = parseCsvLine(line);
+        } catch (IllegalArgumentException ex) {
+            reject(result, lineNumber, null, ex.getMessage());
+            return null;
+        }
+        EmployeeDTO dto = EmployeeDTO.builder()
+                .name(value(values, columns.get("name")))
+                .department(value(values, columns.get("department")))
+                .email(value(values, columns.get("email")))
+                .jobTitle(value(values, columns.get("jobtitle")))
+                .build();
+        Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            reject(result, lineNumber, dto.getEmail(), message);
+            return null;
+        }
+        return new Row(lineNumber, dto);
+    }
+
+    private void importChunk(List<Row> chunk, EmployeeImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> existing = new HashSet<>(employeeRepository.findExistingEmails(
+                chunk.stream().map(row -> row.dto().getEmail()).collect(Collectors.toSet())));
+
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        Set<String> seen = new HashSet<>();
+        for (Row row : chunk) {
+            String email = row.dto().getEmail();
+            if (existing.contains(email)) {
+                reject(result, row.line(), email, "Employee with email " + email + " already exists");
+            } else if (!seen.add(email)) {
+                reject(result, row.line(), email, "Duplicate email " + email + " in import file");
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Employee> saved = employeeRepository.saveAll(accepted.stream().map(row -> toEntity(row.dto())).toList());
+                outboxService.recordEmployees(OutboxEventType.EMPLOYEE_CREATED, saved);
+                entityManager.flush();
+                searchIndex.indexAll(saved);
+                dataVersions.employeesAdded();
+                entityManager.clear();
+            });
+            result.setImported(result.getImported() + accepted.size());
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Employee import chunk rejected by the database: {}", ex.getMostSpecificCause().getMessage());
+            accepted.forEach(row -> reject(result, row.line(), row.dto().getEmail(),
+                    "Rejected by the database, likely a concurrent insert of the same email"));
+        }
+    }
+
+    private Employee toEntity(EmployeeDTO dto) {
+        return Employee.builder()
+                .name(dto.getName())
+                .department(dto.getDepartment())
+                .email(dto.getEmail())
+                .jobTitle(dto.getJobTitle())
+                .build();
+    }
+
+    private void reject(EmployeeImportResult result, long line, String email, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new EmployeeImportResult.RowError(line, email, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    private static String value(List<String> values, Integer index) {
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private record Row(long line, EmployeeDTO dto) {
+    }
+}
@@ -0,0 +1,344 @@
+package com.rewardapp.service;
+
+import com.rewardapp.entity.Employee;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over employee names and emails.
+// Tokens are indexed as padded trigrams ("  jo", " joh", ...) for prefix and substring matching, and as
+// single-character deletion variants ("jhn", "jon", ...) so one-edit typos still find the token.
+@Service
+@Slf4j
+public class EmployeeSearchIndex {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private static final int MIN_FUZZY_TOKEN_LENGTH = 4;
+    private static final int MAX_FUZZY_TOKEN_LENGTH = 24;
+
+    private static final double PREFIX_SCORE = 3;
+    private static final double SUBSTRING_SCORE = 2;
+    private static final double TYPO_SCORE = 1;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> grams = new HashMap<>();
+    private final Map<String, Set<Long>> variants = new HashMap<>();
+    private final ReentrantLock reloading = new ReentrantLock();
+    // Index operations delivered while a reload's query runs, replayed onto the loaded index; null when not
+    // reloading. Each one puts or removes a whole document, so replaying one the query already saw is harmless.
+    private List<Runnable> changesDuringLoad;
+
+    @Autowired
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    // The query runs outside the write lock; writes committed meanwhile (Tomcat serves requests before
+    // ApplicationReadyEvent) may be missing from its result, so they are recorded and replayed after it
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        reloading.lock();
+        try {
+            setChangesDuringLoad(new ArrayList<>());
+            List<Employee> employees;
+            try {
+                employees = employeeRepository.findAll();
+            } catch (RuntimeException ex) {
+                setChangesDuringLoad(null);
+                throw ex;
+            }
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                grams.clear();
+                variants.clear();
+                employees.stream().map(Document::of).forEach(this::put);
+                changesDuringLoad.forEach(Runnable::run);
+                changesDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Employee search index loaded with {} employees", employees.size());
+        } finally {
+            reloading.unlock();
+        }
+    }
+
+    public void index(Employee employee) {
+        Document document = Document.of(employee);
+        AfterCommit.run(() -> change(() -> {
+            delete(document.id());
+            put(document);
+        }));
+    }
+
+    public void indexAll(Collection<Employee> employees) {
+        List<Document> batch = employees.stream().map(Document::of).toList();
+        AfterCommit.run(() -> change(() -> {
+            for (Document document : batch) {
+                delete(document.id());
+                put(document);
+            }
+        }));
+    }
+
+    public void remove(Long employeeId) {
+        AfterCommit.run(() -> change(() -> delete(employeeId)));
+    }
+
+    public List<Long> search(String query, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new InvalidRequestException("Search limit must be between 1 and " + MAX_LIMIT);
+        }
+        String normalized = query == null ? "" : normalize(query).trim();
+        List<String> queryTokens = tokenize(normalized);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String token : queryTokens) {
+                Set<Long> matches = candidatesFor(token);
+                if (candidates == null) {
+                    candidates = matches;
+                } else {
+                    candidates.retainAll(matches);
+                }
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score)
+                    .thenComparing(hit -> hit.document().name(), Comparator.reverseOrder())
+                    .thenComparing(hit -> hit.document().id(), Comparator.reverseOrder());
+            PriorityQueue<Hit> top = new PriorityQueue<>(size + 1, ranking);
+            for (Long id : candidates) {
+                Document document = documents.get(id);
+                double score = score(document, normalized, queryTokens);
+                if (score > 0) {
+                    top.add(new Hit(document, score));
+                    if (top.size() > size) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ids.add(0, top.poll().document().id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every document whose token contains the query token holds all of its trigrams, so intersecting
+    // postings (smallest first) narrows the candidates; typos are added from the deletion variants.
+    private Set<Long> candidatesFor(String token) {
+        List<Set<Long>> postings = new ArrayList<>();
+        for (String gram : token.length() >= 3 ? trigrams(token) : queryGrams(token)) {
+            postings.add(grams.getOrDefault(gram, Set.of()));
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.retainAll(postings.get(i));
+        }
+        if (token.length() >= MIN_FUZZY_TOKEN_LENGTH) {
+            for (String variant : variantsOf(token)) {
+                result.addAll(variants.getOrDefault(variant, Set.of()));
+            }
+        }
+        return result;
+    }
+
+    private double score(Document document, String query, List<String> queryTokens) {
+        if (query.length() >= 3 && document.email().contains(query)) {
+            return PREFIX_SCORE * queryTokens.size() + (document.email().startsWith(query) ? 1 : 0.5);
+        }
+        double total = 0;
+        for (String queryToken : queryTokens) {
+            double best = 0;
+            for (String token : document.tokens()) {
+                if (token.startsWith(queryToken)) {
+                    best = PREFIX_SCORE + (double) queryToken.length() / token.length();
+                    break;
+                }
+                if (token.contains(queryToken)) {
+                    best = Math.max(best, SUBSTRING_SCORE);
+                } else if (best < TYPO_SCORE && queryToken.length() >= MIN_FUZZY_TOKEN_LENGTH
+                        && withinOneEdit(queryToken, token)) {
+                    best = TYPO_SCORE;
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private void change(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setChangesDuringLoad(List<Runnable> changes) {
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Document document) {
+        documents.put(document.id(), document);
+        for (String gram : document.grams()) {
+            grams.computeIfAbsent(gram, g -> new HashSet<>()).add(document.id());
+        }
+        for (String variant : document.variants()) {
+            variants.computeIfAbsent(variant, v -> new HashSet<>()).add(document.id());
+        }
+    }
+
+    private void delete(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        removePostings(grams, document.grams(), id);
+        removePostings(variants, document.variants(), id);
+    }
+
+    private static void removePostings(Map<String, Set<Long>> postings, Set<String> keys, Long id) {
+        for (String key : keys) {
+            Set<Long> ids = postings.get(key);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> tokenize(String value) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : value.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Query tokens are treated as prefixes while typing, so they carry no trailing pad
+    private static List<String> queryGrams(String token) {
+        return trigrams("  " + token);
+    }
+
+    private static List<String> trigrams(String padded) {
+        List<String> result = new ArrayList<>(padded.length());
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    private static Set<String> variantsOf(String token) {
+        Set<String> result = new LinkedHashSet<>();
+        result.add(token);
+        for (int i = 0; i < token.length(); i++) {
+            result.add(token.substring(0, i) + token.substring(i + 1));
+        }
+        return result;
+    }
+
+    // Damerau-Levenshtein distance <= 1 (one insertion, deletion, substitution or adjacent swap)
+    static boolean withinOneEdit(String a, String b) {
+        if (Math.abs(a.length() - b.length()) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < a.length() && i < b.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (i == a.length() || i == b.length()) {
+            return true;
+        }
+        if (a.length() == b.length()) {
+            if (a.substring(i + 1).equals(b.substring(i + 1))) {
+                return true;
+            }
+            return i + 1 < a.length() && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                    && a.substring(i + 2).equals(b.substring(i + 2));
+        }
+        return a.length() > b.length()
+                ? a.substring(i + 1).equals(b.substring(i))
+                : a.substring(i).equals(b.substring(i + 1));
+    }
+
+    private record Document(Long id, String name, String email, List<String> tokens,
+                            Set<String> grams, Set<String> variants) {
+
+        static Document of(Employee employee) {
+            String name = normalize(employee.getName());
+            String email = normalize(employee.getEmail());
+            List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(name + " " + email)));
+            Set<String> grams = new HashSet<>();
+            Set<String> variants = new HashSet<>();
+            for (String token : tokens) {
+                grams.addAll(trigrams("  " + token + " "));
+            }
+            for (String token : tokenize(name)) {
+                if (token.length() >= MIN_FUZZY_TOKEN_LENGTH - 1 && token.length() <= MAX_FUZZY_TOKEN_LENGTH) {
+                    variants.addAll(variantsOf(token));
+                }
+            }
+            return new Document(employee.getId(), name, email, tokens, grams, variants);
+        }
+    }
+
+    private record Hit(Document document, double score) {
+    }
+}
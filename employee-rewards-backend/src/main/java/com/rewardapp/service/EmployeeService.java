@@ -1,60 +1,117 @@
 package com.rewardapp.service;
 
+import com.rewardapp.config.CacheConfig;
+import com.rewardapp.config.MetricsConfig;
+import com.rewardapp.dto.CursorPage;
 import com.rewardapp.dto.EmployeeDTO;
 import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.OutboxEventType;
 import com.rewardapp.exception.DuplicateResourceException;
 import com.rewardapp.exception.ResourceNotFoundException;
 import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.repository.EmployeeRewardStats;
+import com.rewardapp.repository.EmployeeRewardSummaryRepository;
 import com.rewardapp.repository.RewardRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @Slf4j
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final RewardRepository rewardRepository;
+    private final EmployeeRewardSummaryRepository summaryRepository;
+    private final RewardSummaryService rewardSummaryService;
+    private final LeaderboardService leaderboardService;
+    private final EmployeeSearchIndex searchIndex;
+    private final DataVersions dataVersions;
+    private final RewardAnalyticsService rewardAnalyticsService;
+    private final OutboxService outboxService;
+    private final RewardStreamService rewardStreamService;
     
     @Autowired
-    public EmployeeService(EmployeeRepository employeeRepository, RewardRepository rewardRepository) {
+    public EmployeeService(EmployeeRepository employeeRepository, RewardRepository rewardRepository,
+                           EmployeeRewardSummaryRepository summaryRepository,
+                           RewardSummaryService rewardSummaryService, LeaderboardService leaderboardService,
+                           EmployeeSearchIndex searchIndex, DataVersions dataVersions,
+                           RewardAnalyticsService rewardAnalyticsService, OutboxService outboxService,
+                           RewardStreamService rewardStreamService) {
     	this.employeeRepository = employeeRepository;
     	this.rewardRepository = rewardRepository;
+    	this.summaryRepository = summaryRepository;
+    	this.rewardSummaryService = rewardSummaryService;
+    	this.leaderboardService = leaderboardService;
+    	this.searchIndex = searchIndex;
+    	this.dataVersions = dataVersions;
+    	this.rewardAnalyticsService = rewardAnalyticsService;
+    	this.outboxService = outboxService;
+    	this.rewardStreamService = rewardStreamService;
     }
 
 
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getAllEmployees() {
-        log.info("Fetching all employees");
+        log.debug("Fetching all employees");
+        Map<Long, EmployeeRewardStats> stats = toStatsMap(summaryRepository.findAllProjectedBy());
         List<EmployeeDTO> employees = employeeRepository.findAll()
                 .stream()
-                .map(this::toDTO)
+                .map(employee -> toDTO(employee, stats.get(employee.getId())))
                 .collect(Collectors.toList());
-        log.info("Found {} employees", employees.size());
+        log.debug("Found {} employees", employees.size());
         return employees;
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeDTO> getEmployeePage(String cursor, Integer limit) {
+        int pageSize = PageCursors.normalizeLimit(limit);
+        log.debug("Fetching employee page of size {} after cursor {}", pageSize, cursor);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<Employee> employees = cursor == null
+                ? employeeRepository.findAllByOrderByIdAsc(fetchLimit)
+                : employeeRepository.findByIdGreaterThanOrderByIdAsc(PageCursors.decodeId(cursor), fetchLimit);
+
+        if (employees.size() <= pageSize) {
+            return CursorPage.of(toDTOs(employees), null);
+        }
+        List<Employee> page = employees.subList(0, pageSize);
+        return CursorPage.of(toDTOs(page), PageCursors.encodeId(page.get(pageSize - 1).getId()));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    @Transactional(readOnly = true)
     public EmployeeDTO getEmployeeById(Long id) {
-        log.info("Fetching employee with id: {}", id);
-        Employee employee = employeeRepository.findByIdWithRewards(id)
+        log.debug("Fetching employee with id: {}", id);
+        Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> {
-                    log.error("Employee not found with id: {}", id);
+                    log.debug("Employee not found with id: {}", id);
                     return new ResourceNotFoundException("Employee", id);
                 });
         return toDTO(employee);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, allEntries = true)
     public EmployeeDTO createEmployee(EmployeeDTO dto) {
-        log.info("Creating new employee with email: {}", dto.getEmail());
+        log.debug("Creating new employee with email: {}", dto.getEmail());
         if (employeeRepository.existsByEmail(dto.getEmail())) {
-            log.warn("Employee with email {} already exists", dto.getEmail());
+            log.debug("Employee with email {} already exists", dto.getEmail());
             throw new DuplicateResourceException("Employee with email " + dto.getEmail() + " already exists");
         }
         Employee employee = Employee.builder()
@@ -64,71 +121,131 @@ public class EmployeeService {
                 .jobTitle(dto.getJobTitle())
                 .build();
         Employee saved = employeeRepository.save(employee);
+        searchIndex.index(saved);
+        outboxService.record(OutboxEventType.EMPLOYEE_CREATED, saved);
+        dataVersions.employeeChanged(saved.getId());
         log.info("Employee created successfully with id: {}", saved.getId());
-        return toDTO(saved);
+        return toDTO(saved, null);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, allEntries = true)
+    })
     public EmployeeDTO updateEmployee(Long id, EmployeeDTO dto) {
-        log.info("Updating employee with id: {}", id);
+        log.debug("Updating employee with id: {}", id);
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> {
-                    log.error("Employee not found with id: {}", id);
+                    log.debug("Employee not found with id: {}", id);
                     return new ResourceNotFoundException("Employee", id);
                 });
 
         // Check email uniqueness if changed
         if (!employee.getEmail().equals(dto.getEmail()) && employeeRepository.existsByEmail(dto.getEmail())) {
-            log.warn("Email {} is already taken by another employee", dto.getEmail());
+            log.debug("Email {} is already taken by another employee", dto.getEmail());
             throw new DuplicateResourceException("Employee with email " + dto.getEmail() + " already exists");
         }
 
+        String previousDepartment = employee.getDepartment();
         employee.setName(dto.getName());
         employee.setDepartment(dto.getDepartment());
         employee.setEmail(dto.getEmail());
         employee.setJobTitle(dto.getJobTitle());
 
         Employee updated = employeeRepository.save(employee);
+        leaderboardService.updateEmployee(updated);
+        if (!previousDepartment.equals(updated.getDepartment())) {
+            rewardAnalyticsService.departmentChanged(id, previousDepartment);
+        }
+        searchIndex.index(updated);
+        outboxService.record(OutboxEventType.EMPLOYEE_UPDATED, updated);
+        dataVersions.employeeChanged(id);
         log.info("Employee updated successfully with id: {}", updated.getId());
         return toDTO(updated);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.DEPARTMENTS, allEntries = true)
+    })
     public void deleteEmployee(Long id) {
-        log.info("Deleting employee with id: {}", id);
+        log.debug("Deleting employee with id: {}", id);
         if (!employeeRepository.existsById(id)) {
-            log.error("Employee not found with id: {}", id);
+            log.debug("Employee not found with id: {}", id);
             throw new ResourceNotFoundException("Employee", id);
         }
+        rewardAnalyticsService.removeEmployee(id);
+        // Bulk delete first, so the cascade does not load and delete the rewards one by one
+        rewardRepository.deleteByEmployeeId(id);
         employeeRepository.deleteById(id);
+        rewardSummaryService.deleteForEmployee(id);
+        leaderboardService.removeEmployee(id);
+        searchIndex.remove(id);
+        outboxService.recordEmployeeDeleted(id);
+        rewardStreamService.employeeDeleted(id);
+        dataVersions.employeeDeleted(id);
         log.info("Employee deleted successfully with id: {}", id);
     }
 
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getEmployeesByDepartment(String department) {
-        log.info("Fetching employees in department: {}", department);
-        List<EmployeeDTO> employees = employeeRepository.findByDepartmentIgnoreCase(department)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-        log.info("Found {} employees in department {}", employees.size(), department);
+        log.debug("Fetching employees in department: {}", department);
+        List<EmployeeDTO> employees = toDTOs(employeeRepository.findByDepartmentIgnoreCase(department));
+        log.debug("Found {} employees in department {}", employees.size(), department);
         return employees;
     }
 
-    public List<EmployeeDTO> searchEmployees(String name) {
-        log.info("Searching employees with name containing: {}", name);
-        return employeeRepository.findByNameContainingIgnoreCase(name)
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> searchEmployees(String query, Integer limit) {
+        log.debug("Searching employees matching: {}", query);
+        List<Long> ranked = searchIndex.search(query, limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Employee> employees = employeeRepository.findAllById(ranked)
                 .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        return toDTOs(ranked.stream()
+                .map(employees::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
     }
 
+    @Cacheable(CacheConfig.DEPARTMENTS)
+    @Transactional(readOnly = true)
     public List<String> getAllDepartments() {
-        log.info("Fetching all departments");
+        log.debug("Fetching all departments");
         return employeeRepository.findAllDepartments();
     }
 
+    // Reward aggregates come from employee_reward_summary in one primary-key lookup per 1,000 employees
+    private List<EmployeeDTO> toDTOs(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = employees.stream().map(Employee::getId).collect(Collectors.toList());
+        Map<Long, EmployeeRewardStats> stats = toStatsMap(summaryRepository.findStatsByEmployeeIds(ids));
+        return employees.stream()
+                .map(employee -> toDTO(employee, stats.get(employee.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, EmployeeRewardStats> toStatsMap(List<EmployeeRewardStats> stats) {
+        return stats.stream().collect(Collectors.toMap(EmployeeRewardStats::getEmployeeId, Function.identity()));
+    }
+
     private EmployeeDTO toDTO(Employee employee) {
-        int rewardCount = (int) rewardRepository.countByEmployeeId(employee.getId());
-        Integer totalPoints = rewardRepository.sumPointsByEmployeeId(employee.getId());
+        return toDTO(employee, summaryRepository.findStatsByEmployeeId(employee.getId()).orElse(null));
+    }
+
+    EmployeeDTO toDTO(Employee employee, EmployeeRewardStats stats) {
+        if (stats == null) {
+            return toDTO(employee, 0, 0);
+        }
+        return toDTO(employee, (int) stats.getRewardCount(), (int) stats.getTotalPoints());
+    }
 
+    private EmployeeDTO toDTO(Employee employee, int rewardCount, int totalPoints) {
         return EmployeeDTO.builder()
                 .id(employee.getId())
                 .name(employee.getName())
@@ -136,7 +253,7 @@ public class EmployeeService {
                 .email(employee.getEmail())
                 .jobTitle(employee.getJobTitle())
                 .rewardCount(rewardCount)
-                .totalPoints(totalPoints != null ? totalPoints : 0)
+                .totalPoints(totalPoints)
                 .build();
     }
 }
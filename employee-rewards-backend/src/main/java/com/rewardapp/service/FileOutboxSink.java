@@ -0,0 +1,55 @@
+package com.rewardapp.service;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rewardapp.entity.OutboxEvent;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Appends each batch to a newline-delimited JSON file, one event per line, and forces it to disk
+// before the batch is acknowledged
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+
+    public FileOutboxSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            StringBuilder lines = new StringBuilder();
+            for (OutboxEvent event : events) {
+                lines.append(OutboxService.PAYLOAD_MAPPER.writeValueAsString(line(event))).append('\n');
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+                writer.write(lines.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append outbox events to " + file, e);
+        }
+    }
+
+    private static ObjectNode line(OutboxEvent event) throws IOException {
+        ObjectNode node = OutboxService.PAYLOAD_MAPPER.createObjectNode();
+        node.put("id", event.getId());
+        node.put("type", event.getEventType().name());
+        node.put("aggregateType", event.getAggregateType());
+        node.put("aggregateId", event.getAggregateId());
+        node.put("createdAt", event.getCreatedAt().toString());
+        node.set("payload", OutboxService.PAYLOAD_MAPPER.readTree(event.getPayload()));
+        return node;
+    }
+}
@@ -0,0 +1,25 @@
+package com.rewardapp.service;
+
+import com.rewardapp.entity.OutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps published events in memory; for tests and local runs without a broker
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> published = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        published.addAll(events);
+    }
+
+    public synchronized List<OutboxEvent> published() {
+        return List.copyOf(published);
+    }
+
+    public synchronized void clear() {
+        published.clear();
+    }
+}
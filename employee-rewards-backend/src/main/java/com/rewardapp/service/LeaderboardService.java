@@ -0,0 +1,194 @@
+package com.rewardapp.service;
+
+import com.rewardapp.config.MetricsConfig;
+import com.rewardapp.dto.LeaderboardEntryDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.repository.EmployeePointsView;
+import com.rewardapp.repository.RewardRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Skip lists ordered by points give O(log n) updates and O(log n + N) top-N reads without touching the DB.
+// Writes are applied after the surrounding transaction commits so rolled-back rewards never show up.
+@Service
+@Slf4j
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class LeaderboardService {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 100;
+
+    private static final Comparator<Standing> RANKING = Comparator
+            .comparingLong(Standing::points).reversed()
+            .thenComparingLong(Standing::employeeId);
+
+    private final RewardRepository rewardRepository;
+    private final SnapshotGate snapshotGate;
+
+    private final Map<Long, Standing> standings = new ConcurrentHashMap<>();
+    private final NavigableSet<Standing> overall = new ConcurrentSkipListSet<>(RANKING);
+    private final Map<String, NavigableSet<Standing>> byDepartment = new ConcurrentHashMap<>();
+    private final ReentrantLock reloading = new ReentrantLock();
+    // Changes committed after a reload's snapshot, replayed onto the loaded standings; null when not reloading
+    private List<Runnable> changesDuringLoad;
+
+    @Autowired
+    public LeaderboardService(RewardRepository rewardRepository, SnapshotGate snapshotGate) {
+        this.rewardRepository = rewardRepository;
+        this.snapshotGate = snapshotGate;
+    }
+
+    // The query runs outside the monitor so a virtual thread is not pinned to its carrier while on JDBC.
+    // Changes committed after its snapshot are missing from its result, so they are recorded and replayed
+    // after it; the ones committed before are already counted and never replayed (SnapshotGate). Not read-only:
+    // the snapshot must come from the primary, where the gated commits happen.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void reload() {
+        reloading.lock();
+        try {
+            snapshotGate.fix(() -> {
+                rewardRepository.fixRewardSnapshot();
+                synchronized (this) {
+                    changesDuringLoad = new ArrayList<>();
+                }
+            });
+            List<EmployeePointsView> views;
+            try {
+                views = rewardRepository.findPointsPerEmployee();
+            } catch (RuntimeException ex) {
+                synchronized (this) {
+                    changesDuringLoad = null;
+                }
+                throw ex;
+            }
+            synchronized (this) {
+                standings.clear();
+                overall.clear();
+                byDepartment.clear();
+                for (EmployeePointsView view : views) {
+                    put(new Standing(view.getEmployeeId(), view.getEmployeeName(), view.getDepartment(), view.getTotalPoints()));
+                }
+                changesDuringLoad.forEach(Runnable::run);
+                changesDuringLoad = null;
+            }
+        } finally {
+            reloading.unlock();
+        }
+        log.info("Leaderboard loaded with {} employees", standings.size());
+    }
+
+    public List<LeaderboardEntryDTO> getTop(String department, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new InvalidRequestException("Leaderboard limit must be between 1 and " + MAX_LIMIT);
+        }
+        NavigableSet<Standing> ranking = department == null || department.isBlank()
+                ? overall
+                : byDepartment.get(key(department));
+        List<LeaderboardEntryDTO> top = new ArrayList<>(size);
+        if (ranking == null) {
+            return top;
+        }
+        Iterator<Standing> it = ranking.iterator();
+        while (it.hasNext() && top.size() < size) {
+            Standing standing = it.next();
+            top.add(LeaderboardEntryDTO.builder()
+                    .rank(top.size() + 1)
+                    .employeeId(standing.employeeId())
+                    .employeeName(standing.name())
+                    .department(standing.department())
+                    .totalPoints(standing.points())
+                    .build());
+        }
+        return top;
+    }
+
+    public void addPoints(Employee employee, long delta) {
+        Long id = employee.getId();
+        String name = employee.getName();
+        String department = employee.getDepartment();
+        snapshotGate.afterCommit(() -> applyPoints(id, name, department, delta));
+    }
+
+    public void updateEmployee(Employee employee) {
+        Long id = employee.getId();
+        String name = employee.getName();
+        String department = employee.getDepartment();
+        snapshotGate.afterCommit(() -> applyPoints(id, name, department, 0));
+    }
+
+    public void removeEmployee(Long employeeId) {
+        snapshotGate.afterCommit(() -> applyRemoval(employeeId));
+    }
+
+    private synchronized void applyPoints(Long employeeId, String name, String department, long delta) {
+        record(() -> updatePoints(employeeId, name, department, delta));
+        updatePoints(employeeId, name, department, delta);
+    }
+
+    private synchronized void applyRemoval(Long employeeId) {
+        record(() -> remove(standings.get(employeeId)));
+        remove(standings.get(employeeId));
+    }
+
+    private void record(Runnable change) {
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(change);
+        }
+    }
+
+    private void updatePoints(Long employeeId, String name, String department, long delta) {
+        Standing current = standings.get(employeeId);
+        if (current == null && delta == 0) {
+            return;
+        }
+        long points = (current != null ? current.points() : 0) + delta;
+        remove(current);
+        put(new Standing(employeeId, name, department, points));
+    }
+
+    private void put(Standing standing) {
+        standings.put(standing.employeeId(), standing);
+        overall.add(standing);
+        byDepartment.computeIfAbsent(key(standing.department()), d -> new ConcurrentSkipListSet<>(RANKING)).add(standing);
+    }
+
+    private void remove(Standing standing) {
+        if (standing == null) {
+            return;
+        }
+        standings.remove(standing.employeeId());
+        overall.remove(standing);
+        NavigableSet<Standing> department = byDepartment.get(key(standing.department()));
+        if (department != null) {
+            department.remove(standing);
+        }
+    }
+
+    private static String key(String department) {
+        return department.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Standing(long employeeId, String name, String department, long points) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.rewardapp.service;
+
+import com.rewardapp.entity.OutboxEvent;
+import com.rewardapp.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Drains the outbox in id order. Each batch is claimed with FOR UPDATE SKIP LOCKED, published and deleted in
+// one transaction, so concurrent relays take disjoint batches and a failed publish leaves the batch in place
+// for the next run. Delivery is therefore at-least-once and off the request path.
+// An idle poll costs one lookup of the oldest event on the primary, where events are written; it pins no
+// client's reads to the primary, since only a request's own writes do (ReadYourWritesFilter). That lookup also
+// feeds the oldest-age gauge, so a metrics scrape never reaches the database.
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+    private final Timer batchTimer;
+    // createdAt of the oldest undelivered event as of the last drain, null when the outbox was empty
+    private volatile LocalDateTime oldestPending;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink,
+                       TransactionTemplate transactionTemplate, int batchSize, int maxBatchesPerRun,
+                       MeterRegistry registry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.published = Counter.builder("rewardapp.outbox.published")
+                .description("Outbox events delivered to the sink")
+                .register(registry);
+        this.failures = Counter.builder("rewardapp.outbox.failures")
+                .description("Outbox batches that failed to publish and were left for retry")
+                .register(registry);
+        this.lag = Timer.builder("rewardapp.outbox.lag")
+                .description("Time from an event's commit to its delivery")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.batchTimer = Timer.builder("rewardapp.outbox.batch")
+                .description("Claim, publish and delete of one outbox batch")
+                .register(registry);
+        Gauge.builder("rewardapp.outbox.oldest.age", this, OutboxRelay::oldestPendingSeconds)
+                .description("Age of the oldest undelivered outbox event")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    // Returns the number of events delivered
+    @Scheduled(fixedDelayString = "${rewards.outbox.poll-interval-ms:200}")
+    public int drain() {
+        if (!refreshOldestPending()) {
+            return 0;
+        }
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int delivered;
+            try {
+                delivered = batchTimer.record(this::relayBatch);
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.warn("Outbox batch could not be published, retrying on the next run: {}", ex.getMessage());
+                break;
+            }
+            total += delivered;
+            if (delivered < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            refreshOldestPending();
+        }
+        return total;
+    }
+
+    // Returns whether anything is waiting
+    private boolean refreshOldestPending() {
+        oldestPending = transactionTemplate.execute(status -> outboxEventRepository.findFirstByOrderByIdAsc()
+                .map(OutboxEvent::getCreatedAt)
+                .orElse(null));
+        return oldestPending != null;
+    }
+
+    private int relayBatch() {
+        Integer delivered = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.claimBatch(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            sink.publish(events);
+            outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxEvent event : events) {
+                lag.record(Duration.between(event.getCreatedAt(), now));
+            }
+            published.increment(events.size());
+            return events.size();
+        });
+        return delivered == null ? 0 : delivered;
+    }
+
+    private double oldestPendingSeconds() {
+        LocalDateTime oldest = oldestPending;
+        return oldest == null ? 0.0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
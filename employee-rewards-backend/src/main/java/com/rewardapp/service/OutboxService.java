@@ -0,0 +1,118 @@
+package com.rewardapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.OutboxEvent;
+import com.rewardapp.entity.OutboxEventType;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Writes reward and employee change events to the outbox table inside the caller's transaction, so an
+// event exists exactly when its change committed; OutboxRelay delivers them asynchronously.
+// Payloads are the event contract and use their own mapper, independent of the HTTP JSON settings.
+@Service
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    static final ObjectMapper PAYLOAD_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    record RewardPayload(Long id, Long employeeId, String employeeDepartment, String rewardName,
+                         LocalDate dateAwarded, String rewardType, Integer points, String description) {
+    }
+
+    record EmployeePayload(Long id, String name, String department, String email, String jobTitle) {
+    }
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final boolean enabled;
+
+    @Autowired
+    public OutboxService(OutboxEventRepository outboxEventRepository,
+                         @Value("${rewards.outbox.enabled:false}") boolean enabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.enabled = enabled;
+    }
+
+    public void record(OutboxEventType type, Reward reward) {
+        if (enabled) {
+            outboxEventRepository.save(event(type, reward.getId(), payload(reward)));
+        }
+    }
+
+    public void record(OutboxEventType type, Employee employee) {
+        if (enabled) {
+            outboxEventRepository.save(event(type, employee.getId(), payload(employee)));
+        }
+    }
+
+    public void recordEmployeeDeleted(Long employeeId) {
+        if (enabled) {
+            outboxEventRepository.save(event(OutboxEventType.EMPLOYEE_DELETED, employeeId,
+                    new EmployeePayload(employeeId, null, null, null, null)));
+        }
+    }
+
+    // Returns the pending events so batch writers can detach them together with their own entities
+    public List<OutboxEvent> recordRewards(OutboxEventType type, Collection<Reward> rewards) {
+        if (!enabled) {
+            return List.of();
+        }
+        return outboxEventRepository.saveAll(rewards.stream()
+                .map(reward -> event(type, reward.getId(), payload(reward)))
+                .toList());
+    }
+
+    public List<OutboxEvent> recordEmployees(OutboxEventType type, Collection<Employee> employees) {
+        if (!enabled) {
+            return List.of();
+        }
+        return outboxEventRepository.saveAll(employees.stream()
+                .map(employee -> event(type, employee.getId(), payload(employee)))
+                .toList());
+    }
+
+    private static OutboxEvent event(OutboxEventType type, Long aggregateId, Object payload) {
+        try {
+            return OutboxEvent.builder()
+                    .aggregateType(type.getAggregateType())
+                    .aggregateId(aggregateId)
+                    .eventType(type)
+                    .payload(PAYLOAD_MAPPER.writeValueAsString(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + type + " event for " + aggregateId, e);
+        }
+    }
+
+    private static RewardPayload payload(Reward reward) {
+        Employee employee = reward.getEmployee();
+        return new RewardPayload(reward.getId(), employee.getId(), employee.getDepartment(), reward.getRewardName(),
+                reward.getDateAwarded(), reward.getRewardType(), reward.getPoints(), reward.getDescription());
+    }
+
+    private static EmployeePayload payload(Employee employee) {
+        return new EmployeePayload(employee.getId(), employee.getName(), employee.getDepartment(),
+                employee.getEmail(), employee.getJobTitle());
+    }
+}
@@ -0,0 +1,12 @@
+package com.rewardapp.service;
+
+import com.rewardapp.entity.OutboxEvent;
+
+import java.util.List;
+
+// Destination of relayed outbox events. A batch is removed from the outbox only after publish returns,
+// so a sink must tolerate redelivery of a batch that failed part-way (at-least-once delivery).
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,74 @@
+package com.rewardapp.service;
+
+import com.rewardapp.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// Keyset positions are handed to clients as opaque, URL-safe strings
+final class PageCursors {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private PageCursors() {
+    }
+
+    static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("Page limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    static String encodeId(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    static Long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (NumberFormatException ex) {
+            throw invalid();
+        }
+    }
+
+    static String encodeDateAndId(LocalDate date, Long id) {
+        return encode(date + "|" + id);
+    }
+
+    static DateAndId decodeDateAndId(String cursor) {
+        String[] parts = decode(cursor).split("\\|", 2);
+        if (parts.length != 2) {
+            throw invalid();
+        }
+        try {
+            return new DateAndId(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException ex) {
+            throw invalid();
+        }
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw invalid();
+        }
+    }
+
+    private static InvalidRequestException invalid() {
+        return new InvalidRequestException("Invalid page cursor");
+    }
+
+    record DateAndId(LocalDate date, Long id) {
+    }
+}
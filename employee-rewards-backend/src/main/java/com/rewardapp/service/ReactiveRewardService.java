@@ -0,0 +1,44 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.exception.ResourceNotFoundException;
+import com.rewardapp.repository.ReactiveRewardRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Reactive counterpart of the RewardService reads. Writes stay on the JPA path; these reads see them once
+// committed, as they would from any other connection.
+@Service
+@Slf4j
+public class ReactiveRewardService {
+
+    private final ReactiveRewardRepository reactiveRewardRepository;
+
+    @Autowired
+    public ReactiveRewardService(ReactiveRewardRepository reactiveRewardRepository) {
+        this.reactiveRewardRepository = reactiveRewardRepository;
+    }
+
+    public Flux<RewardDTO> getAllRewards() {
+        log.debug("Streaming all rewards");
+        return reactiveRewardRepository.findAllWithEmployee();
+    }
+
+    public Mono<RewardDTO> getRewardById(Long id) {
+        log.debug("Fetching reward with id: {}", id);
+        return reactiveRewardRepository.findByIdWithEmployee(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Reward", id)));
+    }
+
+    public Flux<RewardDTO> getRewardsByEmployee(Long employeeId) {
+        log.debug("Streaming rewards for employee id: {}", employeeId);
+        return reactiveRewardRepository.existsEmployee(employeeId)
+                .flatMapMany(exists -> exists
+                        ? reactiveRewardRepository.findByEmployeeIdWithEmployee(employeeId)
+                        : Flux.error(new ResourceNotFoundException("Employee", employeeId)));
+    }
+}
@@ -0,0 +1,198 @@
+package com.rewardapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// Latest serialized body of selected list endpoints, as JSON and pre-gzipped, keyed by request path.
+// A background refresh compares each source's version tag and rebuilds only changed ones, so a burst of
+// writes costs one rebuild per refresh interval. A snapshot is only served while its tag is still current;
+// otherwise the request takes the normal controller path. Snapshots that would push the total past
+// maxBytes are dropped rather than kept: serialization stops as soon as the output passes the budget left,
+// and a rejected path is not rebuilt again until its tag changes or more budget becomes free.
+@Slf4j
+public class ResponseSnapshots {
+
+    public record Source(String path, Supplier<String> tag, Supplier<?> body) {
+    }
+
+    public record Snapshot(String etag, byte[] json, byte[] gzip) {
+
+        long size() {
+            return json.length + gzip.length;
+        }
+    }
+
+    private record Rejection(String etag, long budget) {
+    }
+
+    private final Map<String, Source> sources = new LinkedHashMap<>();
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Rejection> rejections = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final MeterRegistry registry;
+    private final Map<String, Timer> rebuildTimers = new ConcurrentHashMap<>();
+
+    public ResponseSnapshots(List<Source> sources, ObjectMapper objectMapper, long maxBytes, MeterRegistry registry) {
+        sources.forEach(source -> this.sources.put(source.path(), source));
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        this.registry = registry;
+        for (String path : this.sources.keySet()) {
+            Gauge.builder("rewardapp.snapshots.bytes", () -> size(path))
+                    .description("Memory held by the pre-serialized response snapshot")
+                    .baseUnit("bytes")
+                    .tag("path", path)
+                    .register(registry);
+        }
+    }
+
+    public boolean covers(String path) {
+        return sources.containsKey(path);
+    }
+
+    public Snapshot current(String path) {
+        Source source = sources.get(path);
+        Snapshot snapshot = snapshots.get(path);
+        if (source == null || snapshot == null || !snapshot.etag().equals(source.tag().get())) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    public void recordServed(String path, boolean gzip) {
+        Counter.builder("rewardapp.snapshots.served")
+                .tag("path", path)
+                .tag("encoding", gzip ? "gzip" : "identity")
+                .register(registry)
+                .increment();
+    }
+
+    @Scheduled(fixedDelayString = "${rewards.snapshots.refresh-interval-ms:200}")
+    public void refresh() {
+        sources.values().forEach(this::refresh);
+    }
+
+    private void refresh(Source source) {
+        // Tag first: a write racing the build leaves a stale tag, which the next refresh replaces
+        String tag = source.tag().get();
+        Snapshot existing = snapshots.get(source.path());
+        if (existing != null && existing.etag().equals(tag)) {
+            return;
+        }
+        long budget = maxBytes - snapshots.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(source.path()))
+                .mapToLong(entry -> entry.getValue().size())
+                .sum();
+        Rejection rejected = rejections.get(source.path());
+        if (rejected != null && rejected.etag().equals(tag) && budget <= rejected.budget()) {
+            return;
+        }
+        Snapshot snapshot = rebuildTimer(source.path()).record(() -> build(source, tag, budget));
+        if (snapshot == null) {
+            snapshots.remove(source.path());
+            rejections.put(source.path(), new Rejection(tag, budget));
+            Counter.builder("rewardapp.snapshots.rejected").tag("path", source.path()).register(registry).increment();
+            if (rejected == null) {
+                log.warn("Snapshot of {} exceeds the snapshot memory budget ({} bytes left), serving it live",
+                        source.path(), budget);
+            }
+            return;
+        }
+        rejections.remove(source.path());
+        snapshots.put(source.path(), snapshot);
+        log.debug("Rebuilt snapshot of {}: {} bytes json, {} bytes gzip", source.path(), snapshot.json().length,
+                snapshot.gzip().length);
+    }
+
+    // Null when json and gzip together would not fit in the budget
+    private Snapshot build(Source source, String tag, long budget) {
+        BudgetedOutputStream out = new BudgetedOutputStream(budget);
+        try {
+            objectMapper.writeValue(out, source.body().get());
+        } catch (OverBudgetException e) {
+            return null;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize snapshot of " + source.path(), e);
+        }
+        byte[] json = out.toByteArray();
+        byte[] gzip = gzip(json);
+        return json.length + gzip.length > budget ? null : new Snapshot(tag, json, gzip);
+    }
+
+    private Timer rebuildTimer(String path) {
+        return rebuildTimers.computeIfAbsent(path, p -> Timer.builder("rewardapp.snapshots.rebuild")
+                .description("Time to query, serialize and compress a response snapshot")
+                .tag("path", p)
+                .register(registry));
+    }
+
+    private long size(String path) {
+        Snapshot snapshot = snapshots.get(path);
+        return snapshot != null ? snapshot.size() : 0;
+    }
+
+    // An IOException, so Jackson passes it through instead of wrapping it
+    private static final class OverBudgetException extends IOException {
+    }
+
+    // Collects the serialized json and gives up once it alone exceeds the budget. Jackson writes through its own
+    // buffer, so this fires at most one buffer (8 KB) past the budget.
+    private static final class BudgetedOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final long budget;
+
+        BudgetedOutputStream(long budget) {
+            this.budget = budget;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            reserve(1);
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            reserve(len);
+            bytes.write(b, off, len);
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+
+        private void reserve(int len) throws OverBudgetException {
+            if (bytes.size() + (long) len > budget) {
+                throw new OverBudgetException();
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
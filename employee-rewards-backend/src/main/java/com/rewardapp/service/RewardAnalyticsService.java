@@ -0,0 +1,379 @@
+package com.rewardapp.service;
+
+import com.rewardapp.config.MetricsConfig;
+import com.rewardapp.dto.AnalyticsCellDTO;
+import com.rewardapp.dto.AnalyticsReport;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.repository.RewardAggregateView;
+import com.rewardapp.repository.RewardRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// In-memory points cube over (department, reward type, month awarded).
+// Dimension values are dictionary-encoded and every cell is one row across parallel primitive columns, so a
+// slice/dice query is a linear scan over a few thousand ints and longs. Cells are zeroed, never removed.
+@Service
+@Slf4j
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class RewardAnalyticsService {
+
+    static final String UNSPECIFIED = "Unspecified";
+
+    public enum Dimension {
+        DEPARTMENT("department"),
+        REWARD_TYPE("rewardType"),
+        MONTH("month");
+
+        private final String parameter;
+
+        Dimension(String parameter) {
+            this.parameter = parameter;
+        }
+
+        public String parameter() {
+            return parameter;
+        }
+
+        static Dimension parse(String value) {
+            for (Dimension dimension : values()) {
+                if (dimension.parameter.equalsIgnoreCase(value.trim())) {
+                    return dimension;
+                }
+            }
+            throw new InvalidRequestException("Unknown analytics dimension '" + value
+                    + "'; expected department, rewardType or month");
+        }
+    }
+
+    private final RewardRepository rewardRepository;
+    private final SnapshotGate snapshotGate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Cube cube = new Cube();
+    private final ReentrantLock reloading = new ReentrantLock();
+    // Changes committed after a reload's snapshot, replayed onto the loaded cube; null when not reloading
+    private List<Consumer<Cube>> changesDuringLoad;
+
+    @Autowired
+    public RewardAnalyticsService(RewardRepository rewardRepository, SnapshotGate snapshotGate) {
+        this.rewardRepository = rewardRepository;
+        this.snapshotGate = snapshotGate;
+    }
+
+    // Streams pre-aggregated (department, type, day) rows so startup never materialises individual rewards.
+    // Changes committed after the snapshot the rows come from are recorded and replayed onto them; the ones
+    // committed before are already in the rows (SnapshotGate). Not read-only: the snapshot must come from the
+    // primary, where the gated commits happen.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void reload() {
+        reloading.lock();
+        try {
+            snapshotGate.fix(() -> {
+                rewardRepository.fixRewardSnapshot();
+                setChangesDuringLoad(new ArrayList<>());
+            });
+            Cube loaded = new Cube();
+            try (Stream<RewardAggregateView> rows = rewardRepository.streamDailyAggregates()) {
+                rows.forEach(row -> loaded.add(Fact.of(row), 1));
+            } catch (RuntimeException ex) {
+                setChangesDuringLoad(null);
+                throw ex;
+            }
+            lock.writeLock().lock();
+            try {
+                changesDuringLoad.forEach(change -> change.accept(loaded));
+                changesDuringLoad = null;
+                cube = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Reward analytics loaded with {} cells", loaded.size);
+        } finally {
+            reloading.unlock();
+        }
+    }
+
+    public void recordReward(Reward reward) {
+        apply(List.of(Fact.of(reward)), 1);
+    }
+
+    public void recordRewards(Collection<Reward> rewards) {
+        apply(rewards.stream().map(Fact::of).toList(), 1);
+    }
+
+    // Captures the reward as it is now, so callers about to modify it should call this first
+    public void removeReward(Reward reward) {
+        apply(List.of(Fact.of(reward)), -1);
+    }
+
+    // Must run after the new department is saved: the (auto-flushed) query reports the rewards under it
+    public void departmentChanged(Long employeeId, String previousDepartment) {
+        List<Fact> moved = rewardRepository.findDailyAggregatesByEmployeeId(employeeId).stream()
+                .map(Fact::of)
+                .toList();
+        List<Fact> previous = moved.stream().map(fact -> fact.withDepartment(previousDepartment)).toList();
+        snapshotGate.afterCommit(() -> change(target -> {
+            previous.forEach(fact -> target.add(fact, -1));
+            moved.forEach(fact -> target.add(fact, 1));
+        }));
+    }
+
+    // Must run before the employee's rewards are deleted
+    public void removeEmployee(Long employeeId) {
+        apply(rewardRepository.findDailyAggregatesByEmployeeId(employeeId).stream().map(Fact::of).toList(), -1);
+    }
+
+    public AnalyticsReport query(String department, String rewardType, String from, String to, List<String> groupBy) {
+        Set<Dimension> dimensions = EnumSet.noneOf(Dimension.class);
+        if (groupBy == null) {
+            dimensions = EnumSet.allOf(Dimension.class);
+        } else {
+            for (String value : groupBy) {
+                if (!value.isBlank()) {
+                    dimensions.add(Dimension.parse(value));
+                }
+            }
+        }
+        int fromMonth = from == null || from.isBlank() ? Integer.MIN_VALUE : monthIndex(parseMonth(from));
+        int toMonth = to == null || to.isBlank() ? Integer.MAX_VALUE : monthIndex(parseMonth(to));
+        if (fromMonth > toMonth) {
+            throw new InvalidRequestException("Analytics range start must not be after its end");
+        }
+        boolean byDepartment = dimensions.contains(Dimension.DEPARTMENT);
+        boolean byType = dimensions.contains(Dimension.REWARD_TYPE);
+        boolean byMonth = dimensions.contains(Dimension.MONTH);
+
+        lock.readLock().lock();
+        try {
+            Cube current = cube;
+            boolean[] departments = current.matching(current.departments, department);
+            boolean[] types = current.matching(current.types, rewardType);
+
+            int[] departmentRanks = Cube.ranks(current.departments);
+            int[] typeRanks = Cube.ranks(current.types);
+
+            // group key -> {points, rewards, department id, type id, month index, sort key}
+            Map<Long, long[]> groups = new HashMap<>();
+            long totalPoints = 0;
+            long totalRewards = 0;
+            for (int row = 0; row < current.size; row++) {
+                int d = current.departmentColumn[row];
+                int t = current.typeColumn[row];
+                int m = current.monthColumn[row];
+                if (current.countColumn[row] == 0 || !departments[d] || !types[t] || m < fromMonth || m > toMonth) {
+                    continue;
+                }
+                long key = Cube.key(byDepartment ? d : 0, byType ? t : 0, byMonth ? m : 0);
+                long[] group = groups.get(key);
+                if (group == null) {
+                    // Ordered by month, then department and reward type name
+                    long order = ((long) (byMonth ? m : 0) << 42) | ((long) (byDepartment ? departmentRanks[d] : 0) << 21)
+                            | (byType ? typeRanks[t] : 0);
+                    group = new long[] {0, 0, d, t, m, order};
+                    groups.put(key, group);
+                }
+                group[0] += current.pointsColumn[row];
+                group[1] += current.countColumn[row];
+                totalPoints += current.pointsColumn[row];
+                totalRewards += current.countColumn[row];
+            }
+
+            List<long[]> ordered = new ArrayList<>(groups.values());
+            ordered.sort(Comparator.comparingLong(group -> group[5]));
+            List<AnalyticsCellDTO> cells = new ArrayList<>(ordered.size());
+            for (long[] group : ordered) {
+                cells.add(AnalyticsCellDTO.builder()
+                        .department(byDepartment ? current.departments.get((int) group[2]) : null)
+                        .rewardType(byType ? current.types.get((int) group[3]) : null)
+                        .month(byMonth ? toYearMonth((int) group[4]).toString() : null)
+                        .points(group[0])
+                        .rewards(group[1])
+                        .build());
+            }
+            return AnalyticsReport.builder()
+                    .groupBy(dimensions.stream().map(Dimension::parameter).toList())
+                    .totalPoints(totalPoints)
+                    .totalRewards(totalRewards)
+                    .cells(cells)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(List<Fact> facts, int sign) {
+        if (facts.isEmpty()) {
+            return;
+        }
+        snapshotGate.afterCommit(() -> change(target -> facts.forEach(fact -> target.add(fact, sign))));
+    }
+
+    private void change(Consumer<Cube> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(cube);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setChangesDuringLoad(List<Consumer<Cube>> changes) {
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static YearMonth parseMonth(String value) {
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new InvalidRequestException("Analytics months must use the yyyy-MM format: " + value);
+        }
+    }
+
+    static int monthIndex(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private static YearMonth toYearMonth(int index) {
+        return YearMonth.of(index / 12, index % 12 + 1);
+    }
+
+    private record Fact(String department, String rewardType, int month, long points, long rewards) {
+
+        static Fact of(Reward reward) {
+            return new Fact(reward.getEmployee().getDepartment(), reward.getRewardType(),
+                    monthIndex(reward.getDateAwarded()), reward.getPoints() != null ? reward.getPoints() : 0, 1);
+        }
+
+        static Fact of(RewardAggregateView view) {
+            return new Fact(view.getDepartment(), view.getRewardType(), monthIndex(view.getDateAwarded()),
+                    view.getTotalPoints(), view.getRewardCount());
+        }
+
+        private static int monthIndex(LocalDate date) {
+            return RewardAnalyticsService.monthIndex(YearMonth.from(date));
+        }
+
+        Fact withDepartment(String other) {
+            return new Fact(other, rewardType, month, points, rewards);
+        }
+    }
+
+    private static final class Cube {
+
+        private static final int INITIAL_CAPACITY = 256;
+
+        private final Map<String, Integer> departmentIds = new HashMap<>();
+        private final List<String> departments = new ArrayList<>();
+        private final Map<String, Integer> typeIds = new HashMap<>();
+        private final List<String> types = new ArrayList<>();
+        private final Map<Long, Integer> rows = new HashMap<>();
+
+        private int size;
+        private int[] departmentColumn = new int[INITIAL_CAPACITY];
+        private int[] typeColumn = new int[INITIAL_CAPACITY];
+        private int[] monthColumn = new int[INITIAL_CAPACITY];
+        private long[] pointsColumn = new long[INITIAL_CAPACITY];
+        private long[] countColumn = new long[INITIAL_CAPACITY];
+
+        void add(Fact fact, int sign) {
+            int d = id(departmentIds, departments, fact.department());
+            int t = id(typeIds, types, fact.rewardType());
+            Integer row = rows.get(key(d, t, fact.month()));
+            if (row == null) {
+                row = append(d, t, fact.month());
+            }
+            pointsColumn[row] += sign * fact.points();
+            countColumn[row] += sign * fact.rewards();
+        }
+
+        boolean[] matching(List<String> dictionary, String value) {
+            boolean[] matches = new boolean[dictionary.size()];
+            boolean all = value == null || value.isBlank();
+            for (int i = 0; i < matches.length; i++) {
+                matches[i] = all || dictionary.get(i).equalsIgnoreCase(value.trim());
+            }
+            return matches;
+        }
+
+        // Position of each dictionary entry in name order
+        static int[] ranks(List<String> dictionary) {
+            Integer[] ids = new Integer[dictionary.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = i;
+            }
+            Arrays.sort(ids, Comparator.comparing(dictionary::get));
+            int[] ranks = new int[ids.length];
+            for (int rank = 0; rank < ids.length; rank++) {
+                ranks[ids[rank]] = rank;
+            }
+            return ranks;
+        }
+
+        private int append(int department, int type, int month) {
+            if (size == departmentColumn.length) {
+                int capacity = size * 2;
+                departmentColumn = Arrays.copyOf(departmentColumn, capacity);
+                typeColumn = Arrays.copyOf(typeColumn, capacity);
+                monthColumn = Arrays.copyOf(monthColumn, capacity);
+                pointsColumn = Arrays.copyOf(pointsColumn, capacity);
+                countColumn = Arrays.copyOf(countColumn, capacity);
+            }
+            departmentColumn[size] = department;
+            typeColumn[size] = type;
+            monthColumn[size] = month;
+            rows.put(key(department, type, month), size);
+            return size++;
+        }
+
+        private static int id(Map<String, Integer> ids, List<String> dictionary, String value) {
+            String label = value == null || value.isBlank() ? UNSPECIFIED : value;
+            Integer id = ids.get(label);
+            if (id == null) {
+                id = dictionary.size();
+                dictionary.add(label);
+                ids.put(label, id);
+            }
+            return id;
+        }
+
+        // 21 bits per dimension; month indexes stay below 2^21 until the year 174762
+        static long key(int department, int type, int month) {
+            return ((long) department << 42) | ((long) type << 21) | month;
+        }
+    }
+}
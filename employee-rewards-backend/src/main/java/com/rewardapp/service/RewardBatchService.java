@@ -0,0 +1,139 @@
+package com.rewardapp.service;
+
+import com.rewardapp.config.MetricsConfig;
+import com.rewardapp.dto.RewardBatchResult;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.OutboxEvent;
+import com.rewardapp.entity.OutboxEventType;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.exception.ResourceNotFoundException;
+import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.repository.RewardRepository;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@Slf4j
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class RewardBatchService {
+
+    // Kept equal to hibernate.jdbc.batch_size so each flush sends whole JDBC batches
+    static final int FLUSH_INTERVAL = 50;
+
+    private final RewardRepository rewardRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    private final RewardSummaryService rewardSummaryService;
+    private final LeaderboardService leaderboardService;
+    private final DataVersions dataVersions;
+    private final RewardAnalyticsService rewardAnalyticsService;
+    private final OutboxService outboxService;
+    private final RewardStreamService rewardStreamService;
+
+    @Autowired
+    public RewardBatchService(RewardRepository rewardRepository, EmployeeRepository employeeRepository,
+                              EntityManager entityManager, RewardSummaryService rewardSummaryService,
+                              LeaderboardService leaderboardService, DataVersions dataVersions,
+                              RewardAnalyticsService rewardAnalyticsService, OutboxService outboxService,
+                              RewardStreamService rewardStreamService) {
+        this.rewardRepository = rewardRepository;
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.rewardSummaryService = rewardSummaryService;
+        this.leaderboardService = leaderboardService;
+        this.dataVersions = dataVersions;
+        this.rewardAnalyticsService = rewardAnalyticsService;
+        this.outboxService = outboxService;
+        this.rewardStreamService = rewardStreamService;
+    }
+
+    public RewardBatchResult assignRewards(List<RewardDTO> dtos) {
+        log.debug("Assigning {} rewards in batch", dtos.size());
+        Set<Long> employeeIds = dtos.stream().map(RewardDTO::getEmployeeId).collect(Collectors.toSet());
+        Map<Long, Employee> employees = employeeRepository.findAllByIdInChunks(employeeIds)
+                .stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        for (Long employeeId : employeeIds) {
+            if (!employees.containsKey(employeeId)) {
+                log.debug("Employee not found with id: {}", employeeId);
+                throw new ResourceNotFoundException("Employee", employeeId);
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(dtos.size());
+        List<Reward> pending = new ArrayList<>(FLUSH_INTERVAL);
+        for (RewardDTO dto : dtos) {
+            pending.add(Reward.builder()
+                    .employee(employees.get(dto.getEmployeeId()))
+                    .rewardName(dto.getRewardName())
+                    .dateAwarded(dto.getDateAwarded() != null ? dto.getDateAwarded() : LocalDate.now())
+                    .rewardType(dto.getRewardType())
+                    .points(dto.getPoints())
+                    .description(dto.getDescription())
+                    .build());
+            if (pending.size() == FLUSH_INTERVAL) {
+                flush(pending, ids);
+            }
+        }
+        flush(pending, ids);
+        updateSummaries(dtos, employees);
+        dataVersions.rewardsAdded(employees.keySet());
+
+        log.info("Batch assigned {} rewards", ids.size());
+        return RewardBatchResult.builder()
+                .created(ids.size())
+                .ids(ids)
+                .build();
+    }
+
+    // One summary update per distinct employee rather than per reward
+    private void updateSummaries(List<RewardDTO> dtos, Map<Long, Employee> employees) {
+        Map<Long, long[]> totals = new HashMap<>();
+        Map<Long, LocalDate> latest = new HashMap<>();
+        for (RewardDTO dto : dtos) {
+            long[] total = totals.computeIfAbsent(dto.getEmployeeId(), id -> new long[2]);
+            total[0]++;
+            total[1] += dto.getPoints() != null ? dto.getPoints() : 0;
+            LocalDate date = dto.getDateAwarded() != null ? dto.getDateAwarded() : LocalDate.now();
+            latest.merge(dto.getEmployeeId(), date, (a, b) -> a.isAfter(b) ? a : b);
+        }
+        totals.forEach((employeeId, total) -> {
+            rewardSummaryService.recordAwards(employeeId, total[0], total[1], latest.get(employeeId));
+            leaderboardService.addPoints(employees.get(employeeId), total[1]);
+        });
+    }
+
+    private void flush(List<Reward> pending, List<Long> ids) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Reward reward : rewardRepository.saveAll(pending)) {
+            ids.add(reward.getId());
+        }
+        // Events join the same JDBC batches as their rewards
+        List<OutboxEvent> events = outboxService.recordRewards(OutboxEventType.REWARD_ASSIGNED, pending);
+        entityManager.flush();
+        rewardAnalyticsService.recordRewards(pending);
+        rewardStreamService.rewardsAssigned(pending.stream().map(RewardService::toDTO).toList());
+        // Only the new rewards and events are detached; employees stay usable as references for later chunks
+        pending.forEach(entityManager::detach);
+        events.forEach(entityManager::detach);
+        pending.clear();
+    }
+}
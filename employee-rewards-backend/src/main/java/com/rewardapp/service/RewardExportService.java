@@ -0,0 +1,144 @@
+package com.rewardapp.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.config.MetricsConfig;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.repository.RewardRepository;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class RewardExportService {
+
+    static final int DETACH_INTERVAL = 1000;
+
+    private static final String CSV_HEADER =
+            "id,employeeId,employeeName,employeeDepartment,rewardName,dateAwarded,rewardType,points,description";
+
+    private final RewardRepository rewardRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public RewardExportService(RewardRepository rewardRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.rewardRepository = rewardRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportRewards(ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting rewards as {}", format);
+        long rows;
+        try (Stream<Reward> rewards = rewardRepository.streamAllWithEmployee()) {
+            rows = format == ExportFormat.CSV
+                    ? writeCsv(rewards.iterator(), out)
+                    : writeNdjson(rewards.iterator(), out);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Exported {} rewards as {}", rows, format);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<Reward> rewards, OutputStream out) throws IOException {
+        long rows = 0;
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+            while (rewards.hasNext()) {
+                Reward reward = rewards.next();
+                Employee employee = reward.getEmployee();
+                json.writeStartObject();
+                json.writeNumberField("id", reward.getId());
+                json.writeNumberField("employeeId", employee.getId());
+                json.writeStringField("employeeName", employee.getName());
+                json.writeStringField("employeeDepartment", employee.getDepartment());
+                json.writeStringField("rewardName", reward.getRewardName());
+                json.writeStringField("dateAwarded", String.valueOf(reward.getDateAwarded()));
+                json.writeStringField("rewardType", reward.getRewardType());
+                if (reward.getPoints() != null) {
+                    json.writeNumberField("points", reward.getPoints());
+                } else {
+                    json.writeNullField("points");
+                }
+                json.writeStringField("description", reward.getDescription());
+                json.writeEndObject();
+                json.writeRaw('\n');
+                if (++rows % DETACH_INTERVAL == 0) {
+                    json.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<Reward> rewards, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rewards.hasNext()) {
+            Reward reward = rewards.next();
+            Employee employee = reward.getEmployee();
+            writer.write(String.valueOf(reward.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(employee.getId()));
+            writer.write(',');
+            writeCsvField(writer, employee.getName());
+            writer.write(',');
+            writeCsvField(writer, employee.getDepartment());
+            writer.write(',');
+            writeCsvField(writer, reward.getRewardName());
+            writer.write(',');
+            writeCsvField(writer, reward.getDateAwarded() != null ? reward.getDateAwarded().toString() : null);
+            writer.write(',');
+            writeCsvField(writer, reward.getRewardType());
+            writer.write(',');
+            writeCsvField(writer, reward.getPoints() != null ? reward.getPoints().toString() : null);
+            writer.write(',');
+            writeCsvField(writer, reward.getDescription());
+            writer.write('\n');
+            if (++rows % DETACH_INTERVAL == 0) {
+                writer.flush();
+                entityManager.clear();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,181 @@
+package com.rewardapp.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Maintains the monthly PostgreSQL partitions of rewards (db/migration/postgresql/V5): creates the
+// upcoming months ahead of time and applies retention by detaching whole months, so expiring history
+// is a catalog change rather than a DELETE over millions of rows. Months that already have rows in the
+// default partition (back-dated or far-future awards) get their partition too, with the rows moved into it.
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "rewards.partitioning.enabled", havingValue = "true")
+public class RewardPartitionService {
+
+    static final String PARTITION_PREFIX = "rewards_p";
+    static final String DEFAULT_PARTITION = "rewards_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    static final String LIST_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+            + "WHERE i.inhparent = 'rewards'::regclass";
+
+    static final String LIST_DEFAULT_MONTHS =
+            "SELECT DISTINCT to_char(date_awarded, 'YYYY_MM') FROM " + DEFAULT_PARTITION;
+
+    // Every column but the generated reward_type_key
+    private static final String REWARD_COLUMNS =
+            "id, employee_id, reward_name, date_awarded, reward_type, points, description, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RewardSummaryService rewardSummaryService;
+    private final LeaderboardService leaderboardService;
+    private final RewardAnalyticsService rewardAnalyticsService;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropDetached;
+
+    @Autowired
+    public RewardPartitionService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  RewardSummaryService rewardSummaryService,
+                                  LeaderboardService leaderboardService,
+                                  RewardAnalyticsService rewardAnalyticsService,
+                                  @Value("${rewards.partitioning.months-ahead:3}") int monthsAhead,
+                                  @Value("${rewards.partitioning.retention-months:0}") int retentionMonths,
+                                  @Value("${rewards.partitioning.drop-detached:false}") boolean dropDetached) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rewardSummaryService = rewardSummaryService;
+        this.leaderboardService = leaderboardService;
+        this.rewardAnalyticsService = rewardAnalyticsService;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropDetached = dropDetached;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${rewards.partitioning.cron:0 15 2 * * *}")
+    public void maintain() {
+        maintain(YearMonth.now());
+    }
+
+    void maintain(YearMonth current) {
+        List<String> names = jdbcTemplate.queryForList(LIST_PARTITIONS, String.class);
+        TreeSet<YearMonth> months = months(names);
+        Set<YearMonth> inDefault = names.contains(DEFAULT_PARTITION)
+                ? months(jdbcTemplate.queryForList(LIST_DEFAULT_MONTHS, String.class), "") : Set.of();
+        YearMonth oldestKept = retentionMonths > 0 ? current.minusMonths(retentionMonths) : null;
+
+        TreeSet<YearMonth> missing = new TreeSet<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            missing.add(current.plusMonths(i));
+        }
+        for (YearMonth month : inDefault) {
+            if (oldestKept == null || !month.isBefore(oldestKept)) {
+                missing.add(month);
+            }
+        }
+        missing.removeAll(months);
+        for (YearMonth month : missing) {
+            create(month, inDefault.contains(month));
+        }
+        if (oldestKept == null) {
+            return;
+        }
+
+        int detached = 0;
+        for (YearMonth month : months.headSet(oldestKept)) {
+            detach(month);
+            detached++;
+        }
+        if (detached > 0) {
+            // Summaries and in-memory views still count the detached rewards
+            rewardSummaryService.rebuild();
+            leaderboardService.reload();
+            rewardAnalyticsService.reload();
+            log.info("Detached {} reward partitions older than {}", detached, oldestKept);
+        }
+    }
+
+    private static TreeSet<YearMonth> months(List<String> names) {
+        return months(names, PARTITION_PREFIX);
+    }
+
+    private static TreeSet<YearMonth> months(List<String> names, String prefix) {
+        TreeSet<YearMonth> months = new TreeSet<>();
+        for (String name : names) {
+            if (name.startsWith(prefix)) {
+                try {
+                    months.add(YearMonth.parse(name.substring(prefix.length()), SUFFIX));
+                } catch (DateTimeParseException ex) {
+                    log.debug("Ignoring reward partition {} outside the monthly naming scheme", name);
+                }
+            }
+        }
+        return months;
+    }
+
+    // PostgreSQL refuses a new partition while the default holds rows of its range: those months detach the
+    // default, create the partition, move the rows over and reattach it, all in one transaction. Failures
+    // are logged and retried on the next run.
+    private void create(YearMonth month, boolean rowsInDefault) {
+        String create = String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF rewards FOR VALUES FROM ('%s') TO ('%s')",
+                name(month), month.atDay(1), month.plusMonths(1).atDay(1));
+        try {
+            if (!rowsInDefault) {
+                jdbcTemplate.execute(create);
+                log.info("Created reward partition {}", name(month));
+                return;
+            }
+            Integer moved = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("ALTER TABLE rewards DETACH PARTITION " + DEFAULT_PARTITION);
+                jdbcTemplate.execute(create);
+                int rows = jdbcTemplate.update(String.format("WITH moved AS (DELETE FROM %s "
+                                + "WHERE date_awarded >= '%s' AND date_awarded < '%s' RETURNING %s) "
+                                + "INSERT INTO rewards (%s) SELECT %s FROM moved",
+                        DEFAULT_PARTITION, month.atDay(1), month.plusMonths(1).atDay(1),
+                        REWARD_COLUMNS, REWARD_COLUMNS, REWARD_COLUMNS));
+                jdbcTemplate.execute("ALTER TABLE rewards ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+                return rows;
+            });
+            log.info("Created reward partition {} and moved {} rewards into it from {}",
+                    name(month), moved, DEFAULT_PARTITION);
+        } catch (DataAccessException ex) {
+            log.warn("Could not create reward partition {}: {}", name(month), ex.getMessage());
+        }
+    }
+
+    private void detach(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE rewards DETACH PARTITION " + name(month));
+        if (dropDetached) {
+            jdbcTemplate.execute("DROP TABLE " + name(month));
+            log.info("Dropped expired reward partition {}", name(month));
+        } else {
+            log.info("Detached expired reward partition {}; it remains as a standalone table", name(month));
+        }
+    }
+
+    static String name(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+}
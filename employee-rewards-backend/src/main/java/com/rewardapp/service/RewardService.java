@@ -1,15 +1,23 @@
 package com.rewardapp.service;
 
+import com.rewardapp.config.CacheConfig;
+import com.rewardapp.config.MetricsConfig;
+import com.rewardapp.dto.CursorPage;
 import com.rewardapp.dto.RewardDTO;
 import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.OutboxEventType;
 import com.rewardapp.entity.Reward;
+import com.rewardapp.exception.InvalidRequestException;
 import com.rewardapp.exception.ResourceNotFoundException;
 import com.rewardapp.repository.EmployeeRepository;
 import com.rewardapp.repository.RewardRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,55 +29,110 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class RewardService {
 
     private final RewardRepository rewardRepository;
     private final EmployeeRepository employeeRepository;
+    private final RewardSummaryService rewardSummaryService;
+    private final LeaderboardService leaderboardService;
+    private final DataVersions dataVersions;
+    private final RewardAnalyticsService rewardAnalyticsService;
+    private final OutboxService outboxService;
+    private final RewardStreamService rewardStreamService;
     
     @Autowired
-    public RewardService(EmployeeRepository employeeRepository, RewardRepository rewardRepository) {
+    public RewardService(EmployeeRepository employeeRepository, RewardRepository rewardRepository,
+                         RewardSummaryService rewardSummaryService, LeaderboardService leaderboardService,
+                         DataVersions dataVersions, RewardAnalyticsService rewardAnalyticsService,
+                         OutboxService outboxService, RewardStreamService rewardStreamService) {
     	this.employeeRepository = employeeRepository;
     	this.rewardRepository = rewardRepository;
+    	this.rewardSummaryService = rewardSummaryService;
+    	this.leaderboardService = leaderboardService;
+    	this.dataVersions = dataVersions;
+    	this.rewardAnalyticsService = rewardAnalyticsService;
+    	this.outboxService = outboxService;
+    	this.rewardStreamService = rewardStreamService;
     }
 
 
+    @Transactional(readOnly = true)
     public List<RewardDTO> getAllRewards() {
-        log.info("Fetching all rewards");
+        log.debug("Fetching all rewards");
         List<RewardDTO> rewards = rewardRepository.findAllWithEmployee()
                 .stream()
-                .map(this::toDTO)
+                .map(RewardService::toDTO)
                 .collect(Collectors.toList());
-        log.info("Found {} rewards", rewards.size());
+        log.debug("Found {} rewards", rewards.size());
         return rewards;
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<RewardDTO> getRewardPage(String cursor, Integer limit) {
+        int pageSize = PageCursors.normalizeLimit(limit);
+        log.debug("Fetching reward page of size {} after cursor {}", pageSize, cursor);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<Reward> rewards;
+        if (cursor == null) {
+            rewards = rewardRepository.findFirstPageWithEmployee(fetchLimit);
+        } else {
+            PageCursors.DateAndId position = PageCursors.decodeDateAndId(cursor);
+            rewards = rewardRepository.findPageWithEmployeeAfter(position.date(), position.id(), fetchLimit);
+        }
+
+        String nextCursor = null;
+        if (rewards.size() > pageSize) {
+            rewards = rewards.subList(0, pageSize);
+            Reward last = rewards.get(pageSize - 1);
+            nextCursor = PageCursors.encodeDateAndId(last.getDateAwarded(), last.getId());
+        }
+        return CursorPage.of(rewards.stream().map(RewardService::toDTO).collect(Collectors.toList()), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
     public RewardDTO getRewardById(Long id) {
-        log.info("Fetching reward with id: {}", id);
+        log.debug("Fetching reward with id: {}", id);
         Reward reward = rewardRepository.findById(id)
                 .orElseThrow(() -> {
-                    log.error("Reward not found with id: {}", id);
+                    log.debug("Reward not found with id: {}", id);
                     return new ResourceNotFoundException("Reward", id);
                 });
         return toDTO(reward);
     }
 
+    @Transactional(readOnly = true)
     public List<RewardDTO> getRewardsByEmployee(Long employeeId) {
-        log.info("Fetching rewards for employee id: {}", employeeId);
+        log.debug("Fetching rewards for employee id: {}", employeeId);
         if (!employeeRepository.existsById(employeeId)) {
-            log.error("Employee not found with id: {}", employeeId);
+            log.debug("Employee not found with id: {}", employeeId);
             throw new ResourceNotFoundException("Employee", employeeId);
         }
         return rewardRepository.findByEmployeeIdWithEmployee(employeeId)
                 .stream()
-                .map(this::toDTO)
+                .map(RewardService::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<RewardDTO> getRewardsAwardedBetween(LocalDate from, LocalDate to, String rewardType) {
+        log.debug("Fetching rewards awarded between {} and {} of type: {}", from, to, rewardType);
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("Range start " + from + " is after its end " + to);
+        }
+        List<Reward> rewards = rewardType == null || rewardType.isBlank()
+                ? rewardRepository.findByDateAwardedBetweenWithEmployee(from, to)
+                : rewardRepository.findByRewardTypeIgnoreCaseAndDateAwardedBetweenWithEmployee(rewardType.trim(), from, to);
+        return rewards.stream()
+                .map(RewardService::toDTO)
                 .collect(Collectors.toList());
     }
 
     public RewardDTO assignReward(RewardDTO dto) {
-        log.info("Assigning reward '{}' to employee id: {}", dto.getRewardName(), dto.getEmployeeId());
+        log.debug("Assigning reward '{}' to employee id: {}", dto.getRewardName(), dto.getEmployeeId());
         Employee employee = employeeRepository.findById(dto.getEmployeeId())
                 .orElseThrow(() -> {
-                    log.error("Employee not found with id: {}", dto.getEmployeeId());
+                    log.debug("Employee not found with id: {}", dto.getEmployeeId());
                     return new ResourceNotFoundException("Employee", dto.getEmployeeId());
                 });
 
@@ -83,23 +146,34 @@ public class RewardService {
                 .build();
 
         Reward saved = rewardRepository.save(reward);
+        rewardSummaryService.recordAward(employee.getId(), saved.getPoints(), saved.getDateAwarded());
+        leaderboardService.addPoints(employee, points(saved));
+        rewardAnalyticsService.recordReward(saved);
+        outboxService.record(OutboxEventType.REWARD_ASSIGNED, saved);
+        dataVersions.rewardChanged(saved.getId(), employee.getId());
+        RewardDTO result = toDTO(saved);
+        rewardStreamService.rewardAssigned(result);
         log.info("Reward assigned successfully with id: {}", saved.getId());
-        return toDTO(saved);
+        return result;
     }
 
     public RewardDTO updateReward(Long id, RewardDTO dto) {
-        log.info("Updating reward with id: {}", id);
+        log.debug("Updating reward with id: {}", id);
         Reward reward = rewardRepository.findById(id)
                 .orElseThrow(() -> {
-                    log.error("Reward not found with id: {}", id);
+                    log.debug("Reward not found with id: {}", id);
                     return new ResourceNotFoundException("Reward", id);
                 });
+        Employee previousEmployee = reward.getEmployee();
+        Long previousEmployeeId = previousEmployee.getId();
+        Integer previousPoints = reward.getPoints();
+        rewardAnalyticsService.removeReward(reward);
 
         if (!reward.getEmployee().getId().equals(dto.getEmployeeId())) {
-            log.info("Updating employee for reward id: {} to employee id: {}", id, dto.getEmployeeId());
+            log.debug("Updating employee for reward id: {} to employee id: {}", id, dto.getEmployeeId());
             Employee newEmployee = employeeRepository.findById(dto.getEmployeeId())
                     .orElseThrow(() -> {
-                        log.error("Employee not found with id: {}", dto.getEmployeeId());
+                        log.debug("Employee not found with id: {}", dto.getEmployeeId());
                         return new ResourceNotFoundException("Employee", dto.getEmployeeId());
                     });
             reward.setEmployee(newEmployee);
@@ -112,27 +186,49 @@ public class RewardService {
         reward.setDescription(dto.getDescription());
 
         Reward updated = rewardRepository.save(reward);
+        rewardSummaryService.removeAward(previousEmployeeId, previousPoints);
+        rewardSummaryService.recordAward(updated.getEmployee().getId(), updated.getPoints(), updated.getDateAwarded());
+        leaderboardService.addPoints(previousEmployee, -(previousPoints != null ? previousPoints : 0));
+        leaderboardService.addPoints(updated.getEmployee(), points(updated));
+        rewardAnalyticsService.recordReward(updated);
+        outboxService.record(OutboxEventType.REWARD_UPDATED, updated);
+        dataVersions.rewardChanged(id, previousEmployeeId, updated.getEmployee().getId());
+        RewardDTO result = toDTO(updated);
+        rewardStreamService.rewardUpdated(result);
         log.info("Reward updated successfully with id: {}", updated.getId());
-        return toDTO(updated);
+        return result;
     }
 
     public void deleteReward(Long id) {
-        log.info("Deleting reward with id: {}", id);
-        if (!rewardRepository.existsById(id)) {
-            log.error("Reward not found with id: {}", id);
-            throw new ResourceNotFoundException("Reward", id);
-        }
-        rewardRepository.deleteById(id);
+        log.debug("Deleting reward with id: {}", id);
+        Reward reward = rewardRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.debug("Reward not found with id: {}", id);
+                    return new ResourceNotFoundException("Reward", id);
+                });
+        rewardRepository.delete(reward);
+        rewardSummaryService.removeAward(reward.getEmployee().getId(), reward.getPoints());
+        leaderboardService.addPoints(reward.getEmployee(), -points(reward));
+        rewardAnalyticsService.removeReward(reward);
+        outboxService.record(OutboxEventType.REWARD_DELETED, reward);
+        dataVersions.rewardDeleted(id, reward.getEmployee().getId());
+        rewardStreamService.rewardDeleted(toDTO(reward));
         log.info("Reward deleted successfully with id: {}", id);
     }
 
+    @Cacheable(CacheConfig.REWARD_TYPES)
+    @Transactional(readOnly = true)
     public List<String> getAllRewardTypes() {
         return List.of("Employee of the Month", "Performance",
                 "Innovation", "Teamwork", "Leadership",
                 "Customer Service", "Most Improved", "Best New Employee");
     }
 
-    private RewardDTO toDTO(Reward reward) {
+    private long points(Reward reward) {
+        return reward.getPoints() != null ? reward.getPoints() : 0;
+    }
+
+    static RewardDTO toDTO(Reward reward) {
         return RewardDTO.builder()
                 .id(reward.getId())
                 .employeeId(reward.getEmployee().getId())
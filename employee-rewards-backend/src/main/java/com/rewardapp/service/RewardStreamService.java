@@ -0,0 +1,408 @@
+package com.rewardapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.dto.RewardDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Live feed of reward changes for GET /api/rewards/stream (Server-Sent Events).
+// Each committed change is serialized once, kept in a ring buffer of recent events for Last-Event-ID
+// resume, and fanned out to per-subscriber queues drained on dispatch threads, so a write never waits on a
+// client. A queue holds at most one pending event per reward (a newer change replaces the older one); a
+// subscriber that falls further behind gets a single reset event and reloads the list.
+// SseEmitter.send blocks while the client's TCP window is full, so drains run on virtual threads when the
+// virtual-threads profile is active and on a bounded pool otherwise; either way a subscriber whose send stalls
+// past send-timeout is evicted. Event ids carry a per-start epoch, as DataVersions tags do, so a Last-Event-ID
+// from before a restart is never mistaken for one of this run's ids.
+// Like DataVersions this is per instance: only writes made through this instance are streamed.
+@Service
+@Slf4j
+public class RewardStreamService {
+
+    public static final String ASSIGNED = "assigned";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    public static final String EMPLOYEE_DELETED = "employee-deleted";
+    // Events were lost for this subscriber: it has to reload the reward list
+    public static final String RESET = "reset";
+
+    record FeedEvent(long id, String type, String key, String json) {
+    }
+
+    record EmployeeDeleted(Long employeeId) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final long reconnectMillis;
+    private final long sendTimeoutNanos;
+    private final String epoch = Long.toHexString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE);
+
+    private final Object lock = new Object();
+    private final FeedEvent[] recent;
+    private long lastId;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Executor dispatcher;
+
+    private final Counter published;
+    private final Counter coalesced;
+    private final Counter resets;
+    private final Counter stalls;
+
+    @Autowired
+    public RewardStreamService(ObjectMapper objectMapper, MeterRegistry registry, Environment environment,
+                               @Value("${rewards.stream.replay-size:1024}") int replaySize,
+                               @Value("${rewards.stream.queue-capacity:256}") int queueCapacity,
+                               @Value("${rewards.stream.timeout:30m}") Duration timeout,
+                               @Value("${rewards.stream.reconnect:3s}") Duration reconnect,
+                               @Value("${rewards.stream.send-timeout:10s}") Duration sendTimeout,
+                               @Value("${rewards.stream.dispatch-threads:64}") int dispatchThreads) {
+        this(objectMapper, registry, replaySize, queueCapacity, timeout, reconnect, sendTimeout,
+                Threading.VIRTUAL.isActive(environment), dispatchThreads);
+    }
+
+    RewardStreamService(ObjectMapper objectMapper, MeterRegistry registry, int replaySize, int queueCapacity,
+                        Duration timeout, Duration reconnect, Duration sendTimeout,
+                        boolean virtualThreads, int dispatchThreads) {
+        this.objectMapper = objectMapper;
+        this.recent = new FeedEvent[replaySize];
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeout.toMillis();
+        this.reconnectMillis = reconnect.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.dispatcher = virtualThreads ? virtualDispatcher() : boundedDispatcher(dispatchThreads);
+        this.published = Counter.builder("rewardapp.stream.events")
+                .description("Reward changes published to the live feed")
+                .register(registry);
+        this.coalesced = Counter.builder("rewardapp.stream.coalesced")
+                .description("Queued feed events replaced by a newer change of the same reward")
+                .register(registry);
+        this.resets = Counter.builder("rewardapp.stream.resets")
+                .description("Subscribers that fell behind or resumed past the replay buffer and must reload")
+                .register(registry);
+        this.stalls = Counter.builder("rewardapp.stream.stalls")
+                .description("Subscribers evicted because a send blocked longer than the send timeout")
+                .register(registry);
+        Gauge.builder("rewardapp.stream.subscribers", subscribers, Set::size)
+                .description("Open live feed connections")
+                .register(registry);
+    }
+
+    public void rewardAssigned(RewardDTO reward) {
+        AfterCommit.run(() -> publish(ASSIGNED, "r" + reward.getId(), reward));
+    }
+
+    public void rewardsAssigned(Collection<RewardDTO> rewards) {
+        AfterCommit.run(() -> rewards.forEach(reward -> publish(ASSIGNED, "r" + reward.getId(), reward)));
+    }
+
+    public void rewardUpdated(RewardDTO reward) {
+        AfterCommit.run(() -> publish(UPDATED, "r" + reward.getId(), reward));
+    }
+
+    public void rewardDeleted(RewardDTO reward) {
+        AfterCommit.run(() -> publish(DELETED, "r" + reward.getId(), reward));
+    }
+
+    // The employee's rewards go with them; clients drop every reward of that employee
+    public void employeeDeleted(Long employeeId) {
+        AfterCommit.run(() -> publish(EMPLOYEE_DELETED, "e" + employeeId, new EmployeeDeleted(employeeId)));
+    }
+
+    // lastEventId is the Last-Event-ID header of a reconnecting EventSource. Events after it are replayed when
+    // the ring buffer still holds them; otherwise (too old, or issued before a restart) the client is reset.
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (lock) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId.trim());
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.open();
+        return emitter;
+    }
+
+    // Comment lines keep idle connections open through proxies and reveal clients that went away
+    @Scheduled(fixedRateString = "${rewards.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(Subscriber::heartbeat);
+    }
+
+    // A client that stopped reading leaves its send blocked; the connection is given up rather than left
+    // holding a dispatch thread until the emitter timeout
+    @Scheduled(fixedDelayString = "${rewards.stream.stall-check-ms:1000}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.stalledSince(now) > sendTimeoutNanos) {
+                log.info("Evicting live feed subscriber whose send stalled for over {} ms", sendTimeoutNanos / 1_000_000);
+                stalls.increment();
+                subscriber.evict();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher instanceof ThreadPoolExecutor pool) {
+            pool.shutdownNow();
+        } else {
+            ((SimpleAsyncTaskExecutor) dispatcher).close();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // A blocked send parks a virtual thread instead of pinning a platform thread, so no bound is needed
+    private static Executor virtualDispatcher() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("reward-stream-dispatch-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(1000);
+        return executor;
+    }
+
+    // Each subscriber has at most one drain queued or running, so the queue never outgrows the subscriber set;
+    // stalled sends hold a thread only until evictStalled drops their subscriber
+    private static Executor boundedDispatcher(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "reward-stream-dispatch-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private String eventId(long id) {
+        return epoch + "-" + id;
+    }
+
+    private void publish(String type, String key, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} feed event for {}: {}", type, key, e.getMessage());
+            return;
+        }
+        synchronized (lock) {
+            FeedEvent event = new FeedEvent(++lastId, type, key, json);
+            recent[(int) (event.id() % recent.length)] = event;
+            subscribers.forEach(subscriber -> subscriber.enqueue(event));
+        }
+        published.increment();
+    }
+
+    // Called under lock, so no event is published between the replay and the registration
+    private void replay(Subscriber subscriber, String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            // Issued before a restart (or by another instance): its counter means nothing to this run
+            subscriber.reset(lastId);
+            return;
+        }
+        long after;
+        try {
+            after = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            subscriber.reset(lastId);
+            return;
+        }
+        long oldest = Math.max(1, lastId - recent.length + 1);
+        if (after > lastId || after < oldest - 1) {
+            subscriber.reset(lastId);
+            return;
+        }
+        // Queued without dispatching, so the backlog coalesces as a whole before the first send
+        for (long id = after + 1; id <= lastId; id++) {
+            subscriber.offer(recent[(int) (id % recent.length)]);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Map<String, FeedEvent> pending = new LinkedHashMap<>();
+        private boolean heartbeatDue;
+        // Set until open() has written the first heartbeat, so no dispatch thread touches the emitter before then
+        private boolean scheduled = true;
+        private boolean evicted;
+        // System.nanoTime() when the send in progress started, 0 while no send is in progress
+        private volatile long sendingSince;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void enqueue(FeedEvent event) {
+            offer(event);
+            schedule();
+        }
+
+        synchronized void offer(FeedEvent event) {
+            if (pending.containsKey(RESET)) {
+                // Already behind: the reset takes the latest id so a reconnect resumes after it
+                pending.put(RESET, new FeedEvent(event.id(), RESET, RESET, "{}"));
+            } else if (pending.remove(event.key()) != null) {
+                // Re-appended so queued ids stay ascending and Last-Event-ID never skips an event
+                pending.put(event.key(), event);
+                coalesced.increment();
+            } else if (pending.size() >= queueCapacity) {
+                pending.clear();
+                pending.put(RESET, new FeedEvent(event.id(), RESET, RESET, "{}"));
+                resets.increment();
+            } else {
+                pending.put(event.key(), event);
+            }
+        }
+
+        synchronized void reset(long id) {
+            pending.clear();
+            pending.put(RESET, new FeedEvent(id, RESET, RESET, "{}"));
+            resets.increment();
+        }
+
+        // Runs on the request thread before the emitter is returned: Spring MVC buffers this first write and
+        // flushes it itself when it takes the emitter over, so the response is committed by the request thread
+        // and never by a dispatch thread racing the handler setup. Events queued meanwhile are dispatched after.
+        void open() {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat").reconnectTime(reconnectMillis));
+            } catch (IOException | IllegalStateException ex) {
+                drop(ex);
+                return;
+            }
+            synchronized (this) {
+                scheduled = false;
+                if (!pending.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        synchronized void heartbeat() {
+            heartbeatDue = true;
+            schedule();
+        }
+
+        long stalledSince(long now) {
+            long since = sendingSince;
+            return since == 0 ? 0 : now - since;
+        }
+
+        void evict() {
+            subscribers.remove(this);
+            synchronized (this) {
+                evicted = true;
+                pending.clear();
+            }
+            emitter.completeWithError(new IOException("Live feed client stopped reading"));
+        }
+
+        private void schedule() {
+            if (scheduled || evicted) {
+                return;
+            }
+            scheduled = true;
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                scheduled = false;
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<FeedEvent> batch;
+                boolean ping;
+                synchronized (this) {
+                    if (evicted || (pending.isEmpty() && !heartbeatDue)) {
+                        scheduled = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                    ping = heartbeatDue && batch.isEmpty();
+                    heartbeatDue = false;
+                }
+                try {
+                    if (ping) {
+                        send(SseEmitter.event().comment("heartbeat").reconnectTime(reconnectMillis));
+                    }
+                    for (FeedEvent event : batch) {
+                        send(SseEmitter.event().id(eventId(event.id())).name(event.type())
+                                .data(event.json()));
+                    }
+                } catch (IOException | IllegalStateException ex) {
+                    drop(ex);
+                    return;
+                }
+            }
+        }
+
+        // Client went away or the emitter already completed
+        private void drop(Exception ex) {
+            log.debug("Dropping live feed subscriber: {}", ex.getMessage());
+            subscribers.remove(this);
+            emitter.completeWithError(ex);
+            synchronized (this) {
+                pending.clear();
+                scheduled = false;
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendingSince = Math.max(System.nanoTime(), 1);
+            try {
+                emitter.send(event);
+            } finally {
+                sendingSince = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.rewardapp.service;
+
+import com.rewardapp.config.CacheConfig;
+import com.rewardapp.entity.EmployeeRewardSummary;
+import com.rewardapp.repository.EmployeeRewardStats;
+import com.rewardapp.repository.EmployeeRewardSummaryRepository;
+import com.rewardapp.repository.RewardRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// Maintains employee_reward_summary; write methods must run inside the caller's reward transaction.
+// Every reward write (assign, update incl. reassignment, delete, batch) passes through here with the
+// affected employee id, so this is also where cached EmployeeDTOs (which carry the totals) are evicted.
+@Service
+@Transactional
+@Slf4j
+public class RewardSummaryService {
+
+    private final EmployeeRewardSummaryRepository summaryRepository;
+    private final RewardRepository rewardRepository;
+    private final DataVersions dataVersions;
+    private final EntityManager entityManager;
+    private final RewardSummaryService self;
+
+    private static final String INSERT_SUMMARY =
+            "INSERT INTO employee_reward_summary (employee_id, reward_count, total_points, last_award_date) "
+            + "VALUES (?, ?, ?, ?)";
+    // SQLSTATE of a unique/primary key violation (H2 and PostgreSQL)
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    @Autowired
+    public RewardSummaryService(EmployeeRewardSummaryRepository summaryRepository, RewardRepository rewardRepository,
+                                DataVersions dataVersions, EntityManager entityManager,
+                                @Lazy RewardSummaryService self) {
+        this.summaryRepository = summaryRepository;
+        this.rewardRepository = rewardRepository;
+        this.dataVersions = dataVersions;
+        this.entityManager = entityManager;
+        this.self = self;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#employeeId")
+    public void recordAward(Long employeeId, Integer points, LocalDate dateAwarded) {
+        recordAwards(employeeId, 1, points != null ? points : 0, dateAwarded);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#employeeId")
+    public void recordAwards(Long employeeId, long count, long points, LocalDate latestDateAwarded) {
+        if (summaryRepository.addAwards(employeeId, count, points, latestDateAwarded) > 0) {
+            return;
+        }
+        // First award: two concurrent ones both find no row and both insert. The loser adds to the row the
+        // winner committed instead.
+        if (!insertAwards(employeeId, count, points, latestDateAwarded)) {
+            log.debug("Reward summary for employee id {} created concurrently, adding to it", employeeId);
+            summaryRepository.addAwards(employeeId, count, points, latestDateAwarded);
+        }
+    }
+
+    // Plain JDBC under a savepoint: a duplicate key raised through Hibernate would mark the whole reward
+    // transaction rollback-only, and PostgreSQL aborts it unless rolled back to a savepoint
+    private boolean insertAwards(Long employeeId, long count, long points, LocalDate latestDateAwarded) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SUMMARY)) {
+                insert.setLong(1, employeeId);
+                insert.setLong(2, count);
+                insert.setLong(3, points);
+                insert.setDate(4, latestDateAwarded != null ? Date.valueOf(latestDateAwarded) : null);
+                insert.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException ex) {
+                if (!UNIQUE_VIOLATION.equals(ex.getSQLState())) {
+                    throw ex;
+                }
+                connection.rollback(savepoint);
+                return false;
+            }
+        });
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#employeeId")
+    public void removeAward(Long employeeId, Integer points) {
+        summaryRepository.removeAward(employeeId, points != null ? points : 0);
+    }
+
+    public void deleteForEmployee(Long employeeId) {
+        summaryRepository.findById(employeeId).ifPresent(summaryRepository::delete);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, allEntries = true)
+    public int rebuild() {
+        log.info("Rebuilding employee reward summaries");
+        summaryRepository.deleteAllInBatch();
+        int rows = summaryRepository.insertFromRewards();
+        dataVersions.invalidateAll();
+        log.info("Rebuilt {} employee reward summaries", rows);
+        return rows;
+    }
+
+    @Transactional(readOnly = true)
+    public int verify() {
+        Map<Long, EmployeeRewardStats> expected = new HashMap<>();
+        rewardRepository.findAllRewardStats().forEach(stats -> expected.put(stats.getEmployeeId(), stats));
+
+        int mismatches = 0;
+        for (EmployeeRewardSummary summary : summaryRepository.findAll()) {
+            EmployeeRewardStats stats = expected.remove(summary.getEmployeeId());
+            if (stats == null ? summary.getRewardCount() != 0 : !matches(summary, stats)) {
+                log.warn("Reward summary drift for employee id: {}", summary.getEmployeeId());
+                mismatches++;
+            }
+        }
+        for (Long employeeId : expected.keySet()) {
+            log.warn("Reward summary missing for employee id: {}", employeeId);
+            mismatches++;
+        }
+        return mismatches;
+    }
+
+    // Runs outside a transaction and calls through the proxy, so verify gets its own read-only transaction
+    // (on a replica when one is configured) and rebuild its own, with the cache eviction
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${rewards.summary.verify-cron:0 0 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void verifyAndRepair() {
+        int mismatches = self.verify();
+        if (mismatches > 0) {
+            log.warn("Found {} drifted employee reward summaries, rebuilding", mismatches);
+            self.rebuild();
+        }
+    }
+
+    private boolean matches(EmployeeRewardSummary summary, EmployeeRewardStats stats) {
+        return summary.getRewardCount() == stats.getRewardCount()
+                && summary.getTotalPoints() == stats.getTotalPoints()
+                && Objects.equals(summary.getLastAwardDate(), stats.getLastAwardDate());
+    }
+}
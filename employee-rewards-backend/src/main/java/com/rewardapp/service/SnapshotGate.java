@@ -0,0 +1,121 @@
+package com.rewardapp.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Tells a reload of in-memory state which changes its query already counts. Writers pass the gate from just
+// before their transaction commits until their after-commit change is applied; a reload fixes its REPEATABLE
+// READ snapshot and starts recording changes while no writer is inside. Every change is then either committed
+// before the snapshot and applied before recording began, or committed after it and recorded for replay.
+@Component
+class SnapshotGate {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Runnable checkOutConnection;
+    private int committing;
+    private boolean fixing;
+
+    // Writers wait at the gate holding their connections, so the reload checks its connection out of the pool
+    // before closing the gate; getMetaData reaches the physical connection without running a statement, which
+    // would fix the snapshot early
+    @Autowired
+    SnapshotGate(EntityManager entityManager) {
+        this(() -> entityManager.unwrap(Session.class).doWork(Connection::getMetaData));
+    }
+
+    SnapshotGate(Runnable checkOutConnection) {
+        this.checkOutConnection = checkOutConnection;
+    }
+
+    // Like AfterCommit.run, with the commit and the change inside the gate
+    void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enter();
+            try {
+                change.run();
+            } finally {
+                leave();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean entered;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                enter();
+                entered = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (entered) {
+                    entered = false;
+                    leave();
+                }
+            }
+        });
+    }
+
+    // fixSnapshot runs the reload's first statement and starts recording changes; it must not wait on writers
+    void fix(Runnable fixSnapshot) {
+        checkOutConnection.run();
+        lock.lock();
+        try {
+            while (fixing || committing > 0) {
+                changed.awaitUninterruptibly();
+            }
+            fixing = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            fixSnapshot.run();
+        } finally {
+            lock.lock();
+            try {
+                fixing = false;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void enter() {
+        lock.lock();
+        try {
+            while (fixing) {
+                changed.awaitUninterruptibly();
+            }
+            committing++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void leave() {
+        lock.lock();
+        try {
+            if (--committing == 0) {
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
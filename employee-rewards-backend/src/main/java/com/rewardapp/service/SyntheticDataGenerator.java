@@ -0,0 +1,173 @@
+package com.rewardapp.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Bulk-loads production-sized synthetic data straight over JDBC (batched, one transaction per chunk).
+// Departments, employees and reward types follow Zipf-like skews and award dates cluster in recent months,
+// so hot keys, uneven department sizes and date-range queries behave as they would on real data.
+@Service
+@Slf4j
+public class SyntheticDataGenerator {
+
+    static final String[] DEPARTMENTS = {"Engineering", "Sales", "Customer Support", "Operations", "Marketing",
+            "Finance", "Product", "HR", "Legal", "Design", "Research", "Facilities"};
+    static final String[] REWARD_TYPES = {"Performance", "Teamwork", "Employee of the Month", "Customer Service",
+            "Innovation", "Leadership", "Most Improved", "Best New Employee"};
+    private static final int[] REWARD_TYPE_BASE_POINTS = {300, 150, 500, 200, 400, 350, 100, 250};
+    static final String[] FIRST_NAMES = {"Aarav", "Aditi", "Alice", "Amit", "Ananya", "Arjun", "Chen", "Daniel",
+            "Deepa", "Emma", "Fatima", "Hiro", "Isha", "James", "Kavya", "Liam", "Maria", "Meera", "Mohammed",
+            "Neha", "Olivia", "Priya", "Rahul", "Ravi", "Sara", "Shweta", "Sofia", "Tanvi", "Vikas", "Wei"};
+    static final String[] LAST_NAMES = {"Arora", "Bhandari", "Brown", "Chen", "Das", "Dwivedi", "Garcia", "Gupta",
+            "Iyer", "Johnson", "Khan", "Kumar", "Lee", "Martin", "Mehta", "Nair", "Patel", "Ranjan", "Reddy",
+            "Rossi", "Sharma", "Singh", "Smith", "Tanaka", "Verma", "Williams"};
+    private static final String[] REWARD_NAMES = {"Quarterly Award", "Spot Award", "Star Performer", "Team Champion",
+            "Customer Hero", "Innovation Prize", "Leadership Award", "Rising Star"};
+
+    private static final int MAX_AGE_DAYS = 3 * 365;
+    private static final double MEAN_AGE_DAYS = 180;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void generate(int employees, long rewards, int batchSize, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long firstEmployeeId = nextId("employees");
+        long firstRewardId = nextId("rewards");
+        long start = System.nanoTime();
+
+        double[] departmentWeights = zipfCdf(DEPARTMENTS.length, 1.1);
+        insertEmployees(firstEmployeeId, employees, batchSize, random, departmentWeights);
+        restartSequence("employees_seq", firstEmployeeId + employees);
+
+        // A few employees collect many rewards and a long tail collects few
+        double[] employeeWeights = zipfCdf(employees, 0.6);
+        double[] typeWeights = zipfCdf(REWARD_TYPES.length, 1.0);
+        insertRewards(firstRewardId, rewards, firstEmployeeId, batchSize, random, employeeWeights, typeWeights);
+        restartSequence("rewards_seq", firstRewardId + rewards);
+
+        log.info("Generated {} employees and {} rewards in {} s", employees, rewards,
+                (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private void insertEmployees(long firstId, int count, int batchSize, SplittableRandom random, double[] departments) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO employees (id, name, department, email, job_title, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+        for (long offset = 0; offset < count; offset += batchSize) {
+            long from = firstId + offset;
+            int size = (int) Math.min(batchSize, count - offset);
+            batch(sql, size, (ps, i) -> {
+                long id = from + i;
+                String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                ps.setLong(1, id);
+                ps.setString(2, first + " " + last);
+                ps.setString(3, DEPARTMENTS[pick(departments, random)]);
+                ps.setString(4, first.toLowerCase() + "." + last.toLowerCase() + "." + id + "@synthetic.example");
+                ps.setString(5, "Associate");
+                ps.setTimestamp(6, createdAt);
+            });
+            logProgress("employees", offset + size, count);
+        }
+    }
+
+    private void insertRewards(long firstId, long count, long firstEmployeeId, int batchSize, SplittableRandom random,
+                               double[] employees, double[] types) {
+        LocalDate today = LocalDate.now();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO rewards (id, employee_id, reward_name, date_awarded, reward_type, points, description, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        for (long offset = 0; offset < count; offset += batchSize) {
+            long from = firstId + offset;
+            int size = (int) Math.min(batchSize, count - offset);
+            batch(sql, size, (ps, i) -> {
+                int type = pick(types, random);
+                long ageDays = Math.min(MAX_AGE_DAYS, (long) (-MEAN_AGE_DAYS * Math.log(1 - random.nextDouble())));
+                ps.setLong(1, from + i);
+                ps.setLong(2, firstEmployeeId + pick(employees, random));
+                ps.setString(3, REWARD_NAMES[type]);
+                ps.setDate(4, Date.valueOf(today.minusDays(ageDays)));
+                ps.setString(5, REWARD_TYPES[type]);
+                ps.setInt(6, REWARD_TYPE_BASE_POINTS[type] + 25 * random.nextInt(5));
+                ps.setString(7, "Synthetic reward");
+                ps.setTimestamp(8, createdAt);
+            });
+            logProgress("rewards", offset + size, count);
+        }
+    }
+
+    private void batch(String sql, int size, RowWriter writer) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                writer.write(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        }));
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return (max != null ? max : 0) + 1;
+    }
+
+    // Hibernate's pooled optimizer hands out (value - 49 .. value), so the next value must clear the
+    // generated ids by a full allocation block
+    private void restartSequence(String sequence, long nextFreeId) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (nextFreeId + 50));
+    }
+
+    private static void logProgress(String what, long done, long total) {
+        long step = Math.max(1, total / 10);
+        if (done == total || done / step != (done - 1) / step) {
+            log.info("Inserted {}/{} {}", done, total, what);
+        }
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, int i) throws SQLException;
+    }
+}
@@ -0,0 +1,37 @@
+-- Schema as previously generated by Hibernate (ddl-auto) from the Employee, Reward and
+-- EmployeeRewardSummary entities. Existing databases are baselined at this version.
+
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE rewards_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE employees (
+    id          BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    department  VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    job_title   VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    CONSTRAINT pk_employees PRIMARY KEY (id),
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
+
+CREATE TABLE rewards (
+    id           BIGINT       NOT NULL,
+    employee_id  BIGINT       NOT NULL,
+    reward_name  VARCHAR(255) NOT NULL,
+    date_awarded DATE         NOT NULL,
+    reward_type  VARCHAR(255),
+    points       INTEGER,
+    description  VARCHAR(500),
+    created_at   TIMESTAMP(6),
+    CONSTRAINT pk_rewards PRIMARY KEY (id),
+    CONSTRAINT fk_rewards_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
+
+CREATE TABLE employee_reward_summary (
+    employee_id     BIGINT NOT NULL,
+    reward_count    BIGINT NOT NULL,
+    total_points    BIGINT NOT NULL,
+    last_award_date DATE,
+    CONSTRAINT pk_employee_reward_summary PRIMARY KEY (employee_id)
+);
@@ -0,0 +1,10 @@
+-- Per-employee reward lookups: findByEmployeeId, findByEmployeeIdWithEmployee (ordered by date),
+-- countByEmployeeId, sumPointsByEmployeeId, findRewardStatsByEmployeeIds and the MAX(date_awarded)
+-- subquery in EmployeeRewardSummaryRepository.removeAward. Also backs the foreign key.
+CREATE INDEX IF NOT EXISTS idx_rewards_employee_date ON rewards (employee_id, date_awarded DESC);
+
+-- Keyset pagination over rewards (newest first) and findAllWithEmployee ordering
+CREATE INDEX IF NOT EXISTS idx_rewards_date_awarded_id ON rewards (date_awarded DESC, id DESC);
+
+-- findAllDepartments (DISTINCT ... ORDER BY department) reads the index instead of the table
+CREATE INDEX IF NOT EXISTS idx_employees_department ON employees (department);
@@ -0,0 +1,14 @@
+-- Transactional outbox: reward and employee change events are inserted in the same transaction as the
+-- change itself and deleted by OutboxRelay once a sink has accepted them. Rows are claimed in id order.
+-- V5 is PostgreSQL-only (reward partitioning), so common migrations continue at V6.
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id             BIGINT        NOT NULL,
+    aggregate_type VARCHAR(32)   NOT NULL,
+    aggregate_id   BIGINT        NOT NULL,
+    event_type     VARCHAR(32)   NOT NULL,
+    payload        VARCHAR(4000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
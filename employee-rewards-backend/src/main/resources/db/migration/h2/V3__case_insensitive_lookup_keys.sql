@@ -0,0 +1,8 @@
+-- Upper-cased copies of department and reward_type so the IgnoreCase lookups in EmployeeRepository
+-- and RewardRepository are index seeks. H2 has no expression indexes, so both vendors use
+-- database-maintained generated columns.
+ALTER TABLE employees ADD COLUMN department_key VARCHAR(255) GENERATED ALWAYS AS (UPPER(department));
+CREATE INDEX idx_employees_department_key ON employees (department_key);
+
+ALTER TABLE rewards ADD COLUMN reward_type_key VARCHAR(255) GENERATED ALWAYS AS (UPPER(reward_type));
+CREATE INDEX idx_rewards_reward_type_key ON rewards (reward_type_key);
@@ -0,0 +1,23 @@
+-- Databases baselined from ddl-auto=update never ran V1, which is where employee_reward_summary and the
+-- id sequences are created; create them when missing, fill the summaries from the existing rewards
+-- (RewardSummaryService.rebuild) and move the sequences past the highest id, as postgresql/V4 does.
+CREATE TABLE IF NOT EXISTS employee_reward_summary (
+    employee_id     BIGINT NOT NULL,
+    reward_count    BIGINT NOT NULL,
+    total_points    BIGINT NOT NULL,
+    last_award_date DATE,
+    CONSTRAINT pk_employee_reward_summary PRIMARY KEY (employee_id)
+);
+
+INSERT INTO employee_reward_summary (employee_id, reward_count, total_points, last_award_date)
+SELECT r.employee_id, COUNT(*), COALESCE(SUM(r.points), 0), MAX(r.date_awarded)
+FROM rewards r
+WHERE NOT EXISTS (SELECT 1 FROM employee_reward_summary s WHERE s.employee_id = r.employee_id)
+GROUP BY r.employee_id;
+
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rewards_seq START WITH 1 INCREMENT BY 50;
+
+-- An empty table keeps the sequence at its start
+ALTER SEQUENCE employees_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM employees);
+ALTER SEQUENCE rewards_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM rewards);
@@ -0,0 +1,9 @@
+-- Upper-cased copies of department and reward_type so the IgnoreCase lookups in EmployeeRepository
+-- and RewardRepository are index seeks (kept identical to the H2 migration, which has no expression indexes).
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS department_key VARCHAR(255)
+    GENERATED ALWAYS AS (UPPER(department)) STORED;
+CREATE INDEX IF NOT EXISTS idx_employees_department_key ON employees (department_key);
+
+ALTER TABLE rewards ADD COLUMN IF NOT EXISTS reward_type_key VARCHAR(255)
+    GENERATED ALWAYS AS (UPPER(reward_type)) STORED;
+CREATE INDEX IF NOT EXISTS idx_rewards_reward_type_key ON rewards (reward_type_key);
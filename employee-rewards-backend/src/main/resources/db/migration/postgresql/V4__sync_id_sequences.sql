@@ -0,0 +1,7 @@
+-- Databases baselined from ddl-auto=update were created with IDENTITY ids; Hibernate now allocates
+-- ids from pooled sequences (50 per call), so move both sequences past the highest existing id.
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rewards_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('employees_seq', (SELECT COALESCE(MAX(id), 0) FROM employees) + 50);
+SELECT setval('rewards_seq', (SELECT COALESCE(MAX(id), 0) FROM rewards) + 50);
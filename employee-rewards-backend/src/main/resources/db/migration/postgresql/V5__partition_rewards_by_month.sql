@@ -0,0 +1,50 @@
+-- Monthly range partitions of rewards on date_awarded, so date-bounded reads only touch the months they
+-- cover and retention detaches whole months (RewardPartitionService) instead of deleting rows.
+-- PostgreSQL requires the partition key in every unique constraint: the primary key becomes
+-- (id, date_awarded) while ids stay unique through rewards_seq. Existing rows are copied into the new
+-- table, which then takes over the rewards name; run during a maintenance window on large tables.
+
+CREATE TABLE rewards_partitioned (
+    id              BIGINT       NOT NULL,
+    employee_id     BIGINT       NOT NULL,
+    reward_name     VARCHAR(255) NOT NULL,
+    date_awarded    DATE         NOT NULL,
+    reward_type     VARCHAR(255),
+    points          INTEGER,
+    description     VARCHAR(500),
+    created_at      TIMESTAMP(6),
+    reward_type_key VARCHAR(255) GENERATED ALWAYS AS (UPPER(reward_type)) STORED
+) PARTITION BY RANGE (date_awarded);
+
+-- Catches award dates outside every monthly partition (far back-dated or future awards)
+CREATE TABLE rewards_default PARTITION OF rewards_partitioned DEFAULT;
+
+-- One partition per month from the oldest award to three months ahead, named rewards_pYYYY_MM
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', LEAST(COALESCE((SELECT MIN(date_awarded) FROM rewards), CURRENT_DATE),
+                                                  CURRENT_DATE))::date;
+    last_month  DATE := (date_trunc('month', GREATEST(COALESCE((SELECT MAX(date_awarded) FROM rewards), CURRENT_DATE),
+                                                     CURRENT_DATE)) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF rewards_partitioned FOR VALUES FROM (%L) TO (%L)',
+                       'rewards_p' || to_char(month_start, 'YYYY_MM'), month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO rewards_partitioned (id, employee_id, reward_name, date_awarded, reward_type, points, description, created_at)
+SELECT id, employee_id, reward_name, date_awarded, reward_type, points, description, created_at
+FROM rewards;
+
+DROP TABLE rewards;
+ALTER TABLE rewards_partitioned RENAME TO rewards;
+
+-- Indexes declared on the parent are created on every current and future partition
+ALTER TABLE rewards ADD CONSTRAINT pk_rewards PRIMARY KEY (id, date_awarded);
+ALTER TABLE rewards ADD CONSTRAINT fk_rewards_employee FOREIGN KEY (employee_id) REFERENCES employees (id);
+CREATE INDEX idx_rewards_employee_date ON rewards (employee_id, date_awarded DESC);
+CREATE INDEX idx_rewards_date_awarded_id ON rewards (date_awarded DESC, id DESC);
+CREATE INDEX idx_rewards_reward_type_key ON rewards (reward_type_key);
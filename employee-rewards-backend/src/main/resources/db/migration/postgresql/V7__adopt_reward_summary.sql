@@ -0,0 +1,15 @@
+-- Databases baselined from ddl-auto=update never ran V1, which is where employee_reward_summary is
+-- created; create it when missing and fill it from the existing rewards (RewardSummaryService.rebuild).
+CREATE TABLE IF NOT EXISTS employee_reward_summary (
+    employee_id     BIGINT NOT NULL,
+    reward_count    BIGINT NOT NULL,
+    total_points    BIGINT NOT NULL,
+    last_award_date DATE,
+    CONSTRAINT pk_employee_reward_summary PRIMARY KEY (employee_id)
+);
+
+INSERT INTO employee_reward_summary (employee_id, reward_count, total_points, last_award_date)
+SELECT employee_id, COUNT(*), COALESCE(SUM(points), 0), MAX(date_awarded)
+FROM rewards
+GROUP BY employee_id
+ON CONFLICT (employee_id) DO NOTHING;
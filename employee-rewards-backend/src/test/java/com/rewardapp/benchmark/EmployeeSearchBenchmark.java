@@ -0,0 +1,79 @@
+package com.rewardapp.benchmark;
+
+import com.rewardapp.entity.Employee;
+import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.service.EmployeeSearchIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// mvn test -Pbenchmark -Dtest=EmployeeSearchBenchmark
+@Tag("benchmark")
+class EmployeeSearchBenchmark {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final int ITERATIONS = 1_500;
+
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Monu", "Ramesh", "Shweta", "Manas", "Vikas",
+            "Priya", "Arjun", "Neha", "Rahul", "Anita", "Karan", "Pooja", "Sanjay", "Meera", "Alice", "Robert"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Dwivedi", "Bhandari", "Arora", "Ranjan", "Kumar",
+            "Sharma", "Verma", "Gupta", "Iyer", "Nair", "Patel", "Reddy", "Johnson", "Williams", "Brown"};
+    private static final String[] SYLLABLES = {"ka", "ri", "an", "sh", "ta", "mo", "lu", "ve", "de", "ni",
+            "ra", "jo", "el", "pa", "su", "vi", "ma", "ro", "ha", "li", "na", "te", "go", "bi"};
+    private static final String[] QUERIES = {"j", "jo", "joh", "john", "jhon", "sharm", "kumar", "priya pat",
+            "dwiv", "smtih", "employee123", "arora", "nair", "reddy", "will"};
+
+    @Test
+    void searchLatency() {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (long i = 0; i < EMPLOYEES; i++) {
+            // Mix common names with generated ones so posting lists have a realistic spread
+            String first = random.nextInt(4) == 0 ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] : syllables(random, 2 + random.nextInt(2));
+            String last = random.nextInt(4) == 0 ? LAST_NAMES[random.nextInt(LAST_NAMES.length)] : syllables(random, 2 + random.nextInt(3));
+            employees.add(Employee.builder()
+                    .id(i)
+                    .name(first + " " + last)
+                    .email("employee" + i + "@company.com")
+                    .department("Engineering")
+                    .build());
+        }
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        when(repository.findAll()).thenReturn(employees);
+        EmployeeSearchIndex index = new EmployeeSearchIndex(repository);
+
+        long loadStart = System.nanoTime();
+        index.reload();
+        System.out.printf("Indexed %,d employees in %.1f ms%n", EMPLOYEES, (System.nanoTime() - loadStart) / 1e6);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            index.search(QUERIES[i % QUERIES.length], 20);
+        }
+
+        for (String query : QUERIES) {
+            long start = System.nanoTime();
+            int hits = 0;
+            for (int i = 0; i < 50; i++) {
+                hits = index.search(query, 20).size();
+            }
+            double micros = (System.nanoTime() - start) / 50 / 1e3;
+            System.out.printf("%-14s %3d hits  %10.1f us/query%n", "\"" + query + "\"", hits, micros);
+        }
+        assertThat(index.search("jhon", 20)).isNotEmpty();
+    }
+
+    private static String syllables(Random random, int count) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
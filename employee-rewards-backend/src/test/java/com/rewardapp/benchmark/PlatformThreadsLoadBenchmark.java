@@ -0,0 +1,13 @@
+package com.rewardapp.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+// Default configuration: Tomcat's 200 platform workers in front of a 10-connection pool
+@ActiveProfiles("test")
+class PlatformThreadsLoadBenchmark extends RequestThreadingLoadBenchmark {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,111 @@
+package com.rewardapp.benchmark;
+
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.repository.RewardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The same reward reads through the servlet/JDBC endpoints and the R2DBC endpoints, against the same data,
+// the same simulated round trip and pools of the same size. Blocking reads hold a Tomcat worker for the
+// whole query; reactive reads release it while R2DBC waits.
+// mvn test -Pbenchmark -Dtest=ReactiveReadLoadBenchmark
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-load;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-load?options=DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.r2dbc.pool.max-size=10"})
+@Import(SimulatedDatabaseLatency.class)
+@ActiveProfiles("test")
+@Tag("benchmark")
+@Slf4j
+class ReactiveReadLoadBenchmark {
+
+    private static final int EMPLOYEES = 500;
+    private static final int SAMPLED = 50;
+    private static final int[] CLIENTS = {50, 200, 800};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    private final List<Long> employeeIds = new ArrayList<>();
+    private final List<Long> rewardIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        if (!employeeIds.isEmpty()) {
+            return;
+        }
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .name("Reactive Employee " + i)
+                    .email("reactive" + i + "@example.com")
+                    .department(i % 2 == 0 ? "Engineering" : "Sales")
+                    .build());
+        }
+        List<Reward> rewards = new ArrayList<>();
+        for (Employee employee : employeeRepository.saveAll(employees)) {
+            for (int r = 0; r < 4; r++) {
+                rewards.add(Reward.builder()
+                        .employee(employee)
+                        .rewardName("Spot Award")
+                        .rewardType("Teamwork")
+                        .dateAwarded(LocalDate.of(2024, 1, 1).plusDays(r))
+                        .points(10)
+                        .build());
+            }
+        }
+        rewardRepository.saveAll(rewards);
+        for (int i = 0; i < SAMPLED; i++) {
+            employeeIds.add(employees.get(i * (EMPLOYEES / SAMPLED)).getId());
+            rewardIds.add(rewards.get(i * (rewards.size() / SAMPLED)).getId());
+        }
+    }
+
+    @Test
+    void loadTest() throws Exception {
+        LoadDriver driver = new LoadDriver();
+        for (int clients : CLIENTS) {
+            LoadDriver.Result blocking = driver.run(targets("/api/rewards"), clients,
+                    Duration.ofSeconds(3), Duration.ofSeconds(10));
+            log.info("servlet/JDBC reads: {}", blocking);
+            LoadDriver.Result reactive = driver.run(targets("/api/reactive/rewards"), clients,
+                    Duration.ofSeconds(3), Duration.ofSeconds(10));
+            log.info("R2DBC reads: {}", reactive);
+            assertThat(blocking.throughput()).isPositive();
+            assertThat(reactive.throughput()).isPositive();
+        }
+    }
+
+    private List<URI> targets(String base) {
+        List<URI> targets = new ArrayList<>();
+        for (int i = 0; i < SAMPLED; i++) {
+            targets.add(URI.create("http://localhost:" + port + base + "/" + rewardIds.get(i)));
+            targets.add(URI.create("http://localhost:" + port + base + "/employee/" + employeeIds.get(i)));
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,92 @@
+package com.rewardapp.benchmark;
+
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.repository.RewardRepository;
+import com.rewardapp.service.RewardSummaryService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Same blocking endpoints under the same load, once per execution mode; compare the two reports:
+// mvn test -Pbenchmark -Dtest='*ThreadsLoadBenchmark'
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(SimulatedDatabaseLatency.class)
+@Tag("benchmark")
+@Slf4j
+abstract class RequestThreadingLoadBenchmark {
+
+    private static final int EMPLOYEES = 500;
+    private static final int[] CLIENTS = {50, 200, 800};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardSummaryService rewardSummaryService;
+
+    @BeforeEach
+    void seed() {
+        if (employeeRepository.count() > 0) {
+            return;
+        }
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .name("Load Employee " + i)
+                    .email("load" + i + "@example.com")
+                    .department(i % 2 == 0 ? "Engineering" : "Sales")
+                    .build());
+        }
+        List<Reward> rewards = new ArrayList<>();
+        for (Employee employee : employeeRepository.saveAll(employees)) {
+            for (int r = 0; r < 4; r++) {
+                rewards.add(Reward.builder()
+                        .employee(employee)
+                        .rewardName("Spot Award")
+                        .rewardType("Teamwork")
+                        .dateAwarded(LocalDate.of(2024, 1, 1).plusDays(r))
+                        .points(10)
+                        .build());
+            }
+        }
+        rewardRepository.saveAll(rewards);
+        rewardSummaryService.rebuild();
+    }
+
+    @Test
+    void loadTest() throws Exception {
+        List<URI> targets = List.of(
+                URI.create("http://localhost:" + port + "/api/employees/page?limit=20"),
+                URI.create("http://localhost:" + port + "/api/rewards/page?limit=20"),
+                URI.create("http://localhost:" + port + "/api/rewards/employee/1"));
+        LoadDriver driver = new LoadDriver();
+        for (int clients : CLIENTS) {
+            LoadDriver.Result result = driver.run(targets, clients, Duration.ofSeconds(3), Duration.ofSeconds(10));
+            log.info("{} threads: {}", mode(), result);
+            assertThat(result.throughput()).isPositive();
+        }
+    }
+
+    abstract String mode();
+}
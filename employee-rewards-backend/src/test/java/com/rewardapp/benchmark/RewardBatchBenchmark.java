@@ -0,0 +1,109 @@
+package com.rewardapp.benchmark;
+
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.repository.RewardRepository;
+import com.rewardapp.service.RewardBatchService;
+import com.rewardapp.service.RewardService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// mvn test -Pbenchmark -Dtest=RewardBatchBenchmark
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@Slf4j
+class RewardBatchBenchmark {
+
+    private static final int EMPLOYEES = 100;
+
+    @Autowired
+    private RewardBatchService rewardBatchService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    private List<Long> employeeIds;
+
+    @BeforeEach
+    void setUp() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .name("Benchmark Employee " + i)
+                    .email("bench" + i + "@example.com")
+                    .department("Engineering")
+                    .build());
+        }
+        employeeIds = employeeRepository.saveAll(employees).stream().map(Employee::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rewardRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void batchInsertThroughput() {
+        // warm-up so JIT and connection pool are not part of the first measurement
+        rewardBatchService.assignRewards(rewards(1_000));
+
+        for (int size : new int[] {1_000, 10_000, 100_000}) {
+            List<RewardDTO> dtos = rewards(size);
+            long start = System.nanoTime();
+            int created = rewardBatchService.assignRewards(dtos).getCreated();
+            report("POST /api/rewards/batch", size, System.nanoTime() - start);
+            assertThat(created).isEqualTo(size);
+        }
+    }
+
+    @Test
+    void singleInsertBaseline() {
+        for (int size : new int[] {1_000, 10_000}) {
+            List<RewardDTO> dtos = rewards(size);
+            long start = System.nanoTime();
+            dtos.forEach(rewardService::assignReward);
+            report("POST /api/rewards (one per call)", size, System.nanoTime() - start);
+        }
+    }
+
+    private void report(String mode, int rows, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info(String.format("%-32s %,8d rows in %8.3f s -> %,12.0f rows/sec", mode, rows, seconds, rows / seconds));
+    }
+
+    private List<RewardDTO> rewards(int count) {
+        List<RewardDTO> dtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dtos.add(RewardDTO.builder()
+                    .employeeId(employeeIds.get(i % EMPLOYEES))
+                    .rewardName("Quarterly Award")
+                    .rewardType("Performance")
+                    .dateAwarded(LocalDate.of(2024, 3, 31))
+                    .points(25)
+                    .description("Quarterly award run")
+                    .build());
+        }
+        return dtos;
+    }
+}
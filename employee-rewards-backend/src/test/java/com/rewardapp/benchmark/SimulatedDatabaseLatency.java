@@ -0,0 +1,100 @@
+package com.rewardapp.benchmark;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+
+// H2 in memory answers in microseconds; a networked database does not. Every statement execution and
+// commit sleeps for benchmark.db-latency-ms while holding its connection, like a round trip to PostgreSQL.
+// R2DBC statements and transaction calls are delayed by the same amount without blocking a thread.
+@TestConfiguration
+class SimulatedDatabaseLatency {
+
+    private static final Set<String> REACTIVE_ROUND_TRIPS = Set.of("execute", "beginTransaction",
+            "commitTransaction", "rollbackTransaction");
+
+    private static final Set<String> ROUND_TRIPS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeBatch", "executeLargeUpdate", "executeLargeBatch", "commit", "rollback");
+
+    @Bean
+    static BeanPostProcessor databaseLatencyPostProcessor(
+            @org.springframework.beans.factory.annotation.Value("${benchmark.db-latency-ms:5}") long latencyMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && latencyMillis > 0) {
+                    return proxy(DataSource.class, dataSource, latencyMillis);
+                }
+                if (bean instanceof ConnectionFactory connectionFactory && latencyMillis > 0) {
+                    return reactiveProxy(ConnectionFactory.class, connectionFactory, Duration.ofMillis(latencyMillis));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, long latencyMillis) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (ROUND_TRIPS.contains(method.getName())) {
+                Thread.sleep(latencyMillis);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Connection connection && method.getReturnType() == Connection.class) {
+                return proxy(Connection.class, connection, latencyMillis);
+            }
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return proxy((Class<Statement>) method.getReturnType(), statement, latencyMillis);
+            }
+            return result;
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T reactiveProxy(Class<T> type, T target, Duration latency) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result == target) {
+                // Fluent Statement methods (bind, add, fetchSize) return the statement itself
+                return proxy;
+            }
+            if (REACTIVE_ROUND_TRIPS.contains(method.getName()) && result instanceof Publisher<?> publisher) {
+                return Flux.from(publisher).delaySubscription(latency);
+            }
+            if (method.getName().equals("create") && result instanceof Publisher<?> connection) {
+                return Mono.from(connection).map(c -> reactiveProxy(io.r2dbc.spi.Connection.class,
+                        (io.r2dbc.spi.Connection) c, latency));
+            }
+            if (result instanceof io.r2dbc.spi.Statement statement) {
+                return reactiveProxy(io.r2dbc.spi.Statement.class, statement, latency);
+            }
+            return result;
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
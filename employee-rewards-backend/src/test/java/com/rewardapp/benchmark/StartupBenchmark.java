@@ -0,0 +1,148 @@
+package com.rewardapp.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Time from process launch to the first successful API response, for every startup mode that has been built.
+// Package first, then run only this benchmark so the packaged artifacts stay in place:
+//   mvn package -DskipTests -Paot,cds [-Pnative]
+//   mvn test -Pbenchmark -Dtest=StartupBenchmark
+// Each mode starts the default (H2) profile RUNS times on a fresh port; logs go to target/startup-<mode>.log.
+@Tag("benchmark")
+@Slf4j
+class StartupBenchmark {
+
+    private static final int RUNS = 3;
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final String FIRST_REQUEST = "/api/rewards/types";
+    private static final String AOT_INITIALIZER =
+            "com/rewardapp/EmployeeRewardsApplication__ApplicationContextInitializer.class";
+
+    private final Path target = Path.of("target");
+    private final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        List<Mode> modes = modes();
+        assumeTrue(!modes.isEmpty(), "nothing packaged; run mvn package first");
+        for (Mode mode : modes) {
+            long[] millis = new long[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                millis[run] = startOnce(mode);
+            }
+            Arrays.sort(millis);
+            log.info(String.format("%-8s first request after  min %6d ms   median %6d ms   max %6d ms",
+                    mode.name(), millis[0], millis[RUNS / 2], millis[RUNS - 1]));
+            assertThat(millis[0]).isPositive();
+        }
+    }
+
+    private List<Mode> modes() throws IOException {
+        List<Mode> modes = new ArrayList<>();
+        Path jar = find(target, ".jar");
+        if (jar != null) {
+            modes.add(new Mode("jvm", List.of(java, "-jar", jar.toString())));
+            if (contains(jar, "BOOT-INF/classes/" + AOT_INITIALIZER)) {
+                modes.add(new Mode("aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", jar.toString())));
+            }
+        }
+        Path cdsJar = find(target.resolve("cds"), "-cds.jar");
+        Path archive = target.resolve("cds").resolve("application.jsa");
+        if (cdsJar != null && Files.exists(archive)) {
+            String shared = "-XX:SharedArchiveFile=" + archive;
+            modes.add(new Mode("cds", List.of(java, shared, "-Xlog:cds=error", "-jar", cdsJar.toString())));
+            if (contains(cdsJar, AOT_INITIALIZER)) {
+                modes.add(new Mode("aot+cds", List.of(java, shared, "-Xlog:cds=error", "-Dspring.aot.enabled=true",
+                        "-jar", cdsJar.toString())));
+            }
+        }
+        Path executable = target.resolve("employee-rewards-backend");
+        if (Files.isExecutable(executable) && !Files.isDirectory(executable)) {
+            modes.add(new Mode("native", List.of(executable.toString())));
+        }
+        return modes;
+    }
+
+    private long startOnce(Mode mode) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(mode.command());
+        command.add("--server.port=" + port);
+        File logFile = target.resolve("startup-" + mode.name() + ".log").toFile();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + FIRST_REQUEST))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start();
+        try {
+            long deadline = started + START_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertThat(process.isAlive()).as("%s exited during startup, see %s", mode.name(), logFile).isTrue();
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - started) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError(mode.name() + " did not answer within " + START_TIMEOUT + ", see " + logFile);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static Path find(Path directory, String suffix) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("employee-rewards-backend-"))
+                    .filter(file -> file.getFileName().toString().endsWith(suffix))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private static boolean contains(Path jar, String entry) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return file.getEntry(entry) != null;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, List<String> command) {
+    }
+}
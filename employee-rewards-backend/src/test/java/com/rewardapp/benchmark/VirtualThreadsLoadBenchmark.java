@@ -0,0 +1,20 @@
+package com.rewardapp.benchmark;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadsLoadBenchmark extends RequestThreadingLoadBenchmark {
+
+    @BeforeAll
+    static void requireJava21() {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21");
+    }
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,115 @@
+package com.rewardapp.config;
+
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.service.EmployeeService;
+import com.rewardapp.service.RewardService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheConfigTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private EmployeeDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        employee = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Cache Tester")
+                .email("cache.tester." + System.nanoTime() + "@example.com")
+                .department("QA")
+                .build());
+    }
+
+    @Test
+    void whenGetEmployeeById_thenServeRepeatReadsFromCache() {
+        // when
+        EmployeeDTO first = employeeService.getEmployeeById(employee.getId());
+        EmployeeDTO second = employeeService.getEmployeeById(employee.getId());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(employeesCache().get(employee.getId())).isNotNull();
+    }
+
+    @Test
+    void whenRewardAssignedUpdatedAndDeleted_thenEvictAffectedEmployee() {
+        // given
+        employeeService.getEmployeeById(employee.getId());
+
+        // when
+        RewardDTO reward = rewardService.assignReward(RewardDTO.builder()
+                .employeeId(employee.getId())
+                .rewardName("Bug Bash Winner")
+                .dateAwarded(LocalDate.now())
+                .points(40)
+                .build());
+
+        // then
+        assertThat(employeesCache().get(employee.getId())).isNull();
+        assertThat(employeeService.getEmployeeById(employee.getId()).getTotalPoints()).isEqualTo(40);
+
+        // when
+        rewardService.deleteReward(reward.getId());
+
+        // then
+        assertThat(employeeService.getEmployeeById(employee.getId()).getTotalPoints()).isZero();
+    }
+
+    @Test
+    void whenEmployeeUpdated_thenEvictEmployeeAndDepartments() {
+        // given
+        employeeService.getEmployeeById(employee.getId());
+        assertThat(employeeService.getAllDepartments()).contains("QA");
+        String department = "Quality " + System.nanoTime();
+        employee.setDepartment(department);
+
+        // when
+        employeeService.updateEmployee(employee.getId(), employee);
+
+        // then
+        assertThat(employeesCache().get(employee.getId())).isNull();
+        assertThat(employeeService.getAllDepartments()).contains(department);
+    }
+
+    @Test
+    void whenCachesUsed_thenExposeHitAndMissMetrics() {
+        // when
+        rewardService.getAllRewardTypes();
+        rewardService.getAllRewardTypes();
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CacheConfig.REWARD_TYPES).tag("result", "hit")
+                .functionCounter().count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", CacheConfig.EMPLOYEES)
+                .functionCounter()).isNotNull();
+    }
+
+    private Cache employeesCache() {
+        return cacheManager.getCache(CacheConfig.EMPLOYEES);
+    }
+}
@@ -0,0 +1,153 @@
+package com.rewardapp.config;
+
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.service.DataVersions;
+import com.rewardapp.service.EmployeeService;
+import com.rewardapp.service.RewardSummaryService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import jakarta.servlet.http.Cookie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Primary and replica are two separate H2 databases with the same schema and no replication between
+// them, so a row that only the replica holds shows which database served a read. Clients are told apart by
+// the last-write cookie, as a browser sends it back.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "rewards.datasource.replica.jdbc-url=" + DataSourceRoutingConfigTest.REPLICA_URL,
+        "rewards.datasource.replica.username=sa",
+        "rewards.datasource.routing.stickiness=" + DataSourceRoutingConfigTest.STICKINESS_MS + "ms"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DataSourceRoutingConfigTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    static final long STICKINESS_MS = 300;
+
+    private static final String REPLICA_ONLY_EMAIL = "replica.only@example.com";
+
+    static {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO employees (id, name, department, email) "
+                    + "VALUES (900001, 'Replica Only', 'QA', '" + REPLICA_ONLY_EMAIL + "')");
+            // a reward without its summary row: drift that only the replica shows
+            statement.executeUpdate("INSERT INTO rewards (id, employee_id, reward_name, date_awarded, points) "
+                    + "VALUES (900001, 900001, 'Replica Award', DATE '2024-01-01', 10)");
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RewardSummaryService rewardSummaryService;
+
+    @Autowired
+    private DataVersions dataVersions;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void whenNoRecentWrite_thenReadOnlyTransactionsUseReplica() throws InterruptedException {
+        // given
+        Thread.sleep(STICKINESS_MS + 100);
+
+        // when
+        List<String> emails = emails(employeeService.getAllEmployees());
+
+        // then
+        assertThat(emails).contains(REPLICA_ONLY_EMAIL);
+    }
+
+    @Test
+    void whenClientWrites_thenItsReadsStickToPrimaryForTheWindow() throws Exception {
+        // given
+        String email = "routing.tester." + System.nanoTime() + "@example.com";
+        Cookie lastWrite = createEmployee(email);
+
+        // when
+        String afterWrite = getEmployees(lastWrite);
+        Thread.sleep(STICKINESS_MS + 100);
+        String afterWindow = getEmployees(lastWrite);
+
+        // then
+        assertThat(lastWrite).isNotNull();
+        assertThat(afterWrite).contains(email).doesNotContain(REPLICA_ONLY_EMAIL);
+        assertThat(afterWindow).contains(REPLICA_ONLY_EMAIL).doesNotContain(email);
+    }
+
+    @Test
+    void whenOneClientWrites_thenOtherClientsKeepReadingFromReplica() throws Exception {
+        // given
+        String email = "routing.other." + System.nanoTime() + "@example.com";
+        createEmployee(email);
+
+        // when
+        String otherClient = getEmployees(null);
+        List<String> backgroundJob = emails(employeeService.getAllEmployees());
+
+        // then
+        assertThat(otherClient).contains(REPLICA_ONLY_EMAIL).doesNotContain(email);
+        assertThat(backgroundJob).contains(REPLICA_ONLY_EMAIL).doesNotContain(email);
+    }
+
+    @Test
+    void whenSummariesAreVerified_thenTheCheckReadsFromReplica() {
+        // given
+        String before = dataVersions.employeeListTag();
+
+        // when
+        rewardSummaryService.verifyAndRepair();
+
+        // then: the replica's drift was found and the summaries were rebuilt
+        assertThat(dataVersions.employeeListTag()).isNotEqualTo(before);
+    }
+
+    private Cookie createEmployee(String email) throws Exception {
+        return mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Routing Tester\",\"email\":\"" + email + "\",\"department\":\"QA\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+    }
+
+    private String getEmployees(Cookie lastWrite) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/employees");
+        if (lastWrite != null) {
+            request.cookie(lastWrite);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static List<String> emails(List<EmployeeDTO> employees) {
+        return employees.stream().map(EmployeeDTO::getEmail).toList();
+    }
+}
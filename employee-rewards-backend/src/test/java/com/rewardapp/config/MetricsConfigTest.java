@@ -0,0 +1,95 @@
+package com.rewardapp.config;
+
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.service.EmployeeService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private EmployeeDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Metrics Tester")
+                .email("metrics.tester." + System.nanoTime() + "@example.com")
+                .department("Ops")
+                .build());
+    }
+
+    @Test
+    void whenServiceMethodCalled_thenRecordServiceTimer() throws Exception {
+        // when
+        mockMvc.perform(get("/api/employees/{id}", employee.getId())).andExpect(status().isOk());
+
+        // then
+        Timer timer = meterRegistry.find(MetricsConfig.SERVICE_TIMER)
+                .tag("class", EmployeeService.class.getName())
+                .tag("method", "getEmployeeById")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+
+    @Test
+    void whenRequestHandled_thenRecordStatementsPerEndpoint() throws Exception {
+        // when
+        mockMvc.perform(get("/api/rewards/employee/{employeeId}", employee.getId())).andExpect(status().isOk());
+
+        // then
+        DistributionSummary statements = meterRegistry.find(MetricsConfig.REQUEST_STATEMENTS)
+                .tag("method", "GET")
+                .tag("uri", "/api/rewards/employee/{employeeId}")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isPositive();
+    }
+
+    @Test
+    void whenScraped_thenExposeServiceRepositoryHibernateAndPoolMetrics() throws Exception {
+        // given
+        mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+
+        // when / then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("rewardapp_service_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("rewardapp_http_statements_bucket")))
+                .andExpect(content().string(containsString("hibernate_statements_total")))
+                .andExpect(content().string(containsString("hibernate_entities_loads_total")))
+                .andExpect(content().string(containsString("hibernate_cache_query_requests_total")))
+                .andExpect(content().string(containsString("hibernate_flushes_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+}
@@ -0,0 +1,191 @@
+package com.rewardapp.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.entity.OutboxEvent;
+import com.rewardapp.entity.OutboxEventType;
+import com.rewardapp.exception.DuplicateResourceException;
+import com.rewardapp.repository.OutboxEventRepository;
+import com.rewardapp.service.EmployeeService;
+import com.rewardapp.service.InMemoryOutboxSink;
+import com.rewardapp.service.OutboxRelay;
+import com.rewardapp.service.OutboxSink;
+import com.rewardapp.service.RewardService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The scheduled drain is pushed out so each test decides when the relay runs
+@SpringBootTest(properties = {
+        "rewards.outbox.enabled=true",
+        "rewards.outbox.sink=memory",
+        "rewards.outbox.batch-size=2",
+        "rewards.outbox.poll-interval-ms=3600000",
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1"})
+@ActiveProfiles("test")
+class OutboxConfigTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OutboxSink sink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeeDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        relay.drain();
+        ((InMemoryOutboxSink) sink).clear();
+        employee = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Outbox Tester")
+                .email("outbox.tester." + System.nanoTime() + "@example.com")
+                .department("QA")
+                .build());
+    }
+
+    @Test
+    void whenWritesCommit_thenRelayPublishesTheirEventsInOrderAndEmptiesTheOutbox() throws Exception {
+        // given
+        RewardDTO reward = rewardService.assignReward(reward(50));
+        rewardService.updateReward(reward.getId(), reward(75));
+        rewardService.deleteReward(reward.getId());
+        double publishedBefore = registry.get("rewardapp.outbox.published").counter().count();
+
+        // when
+        int delivered = relay.drain();
+
+        // then
+        List<OutboxEvent> events = ((InMemoryOutboxSink) sink).published();
+        assertThat(delivered).isEqualTo(4);
+        assertThat(events).extracting(OutboxEvent::getEventType).containsExactly(
+                OutboxEventType.EMPLOYEE_CREATED, OutboxEventType.REWARD_ASSIGNED,
+                OutboxEventType.REWARD_UPDATED, OutboxEventType.REWARD_DELETED);
+        JsonNode updated = objectMapper.readTree(events.get(2).getPayload());
+        assertThat(updated.get("points").asInt()).isEqualTo(75);
+        assertThat(updated.get("employeeId").asLong()).isEqualTo(employee.getId());
+        assertThat(updated.get("dateAwarded").asText()).isEqualTo("2024-03-01");
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(registry.get("rewardapp.outbox.published").counter().count()).isEqualTo(publishedBefore + 4);
+        assertThat(registry.get("rewardapp.outbox.lag").timer().count()).isPositive();
+    }
+
+    @Test
+    void whenWriteRollsBack_thenNoEventIsRecorded() {
+        // given
+        EmployeeDTO duplicate = EmployeeDTO.builder()
+                .name("Duplicate")
+                .email(employee.getEmail())
+                .department("QA")
+                .build();
+
+        // when
+        assertThatThrownBy(() -> employeeService.createEmployee(duplicate))
+                .isInstanceOf(DuplicateResourceException.class);
+
+        // then
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getAggregateId)
+                .containsExactly(employee.getId());
+    }
+
+    @Test
+    void whenSinkFails_thenBatchStaysInTheOutboxForRetry() {
+        // given
+        OutboxSink failing = events -> {
+            throw new IllegalStateException("broker unavailable");
+        };
+        SimpleMeterRegistry failingRegistry = new SimpleMeterRegistry();
+        OutboxRelay failingRelay = new OutboxRelay(outboxEventRepository, failing,
+                new TransactionTemplate(transactionManager), 2, 10, failingRegistry);
+
+        // when
+        int delivered = failingRelay.drain();
+
+        // then
+        assertThat(delivered).isZero();
+        assertThat(failingRegistry.get("rewardapp.outbox.failures").counter().count()).isEqualTo(1);
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+        assertThat(relay.drain()).isEqualTo(1);
+    }
+
+    @Test
+    void whenBatchIsClaimed_thenConcurrentRelaySkipsItsRows() throws Exception {
+        // given
+        rewardService.assignReward(reward(10));
+        rewardService.assignReward(reward(20));
+        TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> transactions.execute(status -> {
+            List<Long> ids = ids(outboxEventRepository.claimBatch(2));
+            claimed.countDown();
+            await(release);
+            return ids;
+        }));
+
+        // when
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+        List<Long> second = transactions.execute(status -> ids(outboxEventRepository.claimBatch(2)));
+        release.countDown();
+
+        // then
+        assertThat(first.get(10, TimeUnit.SECONDS)).hasSize(2).doesNotContainAnyElementsOf(second);
+        assertThat(second).hasSize(1);
+    }
+
+    private RewardDTO reward(int points) {
+        return RewardDTO.builder()
+                .employeeId(employee.getId())
+                .rewardName("Outbox Award")
+                .rewardType("Performance")
+                .points(points)
+                .dateAwarded(LocalDate.of(2024, 3, 1))
+                .build();
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
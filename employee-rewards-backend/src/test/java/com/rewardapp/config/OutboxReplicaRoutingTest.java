@@ -0,0 +1,109 @@
+package com.rewardapp.config;
+
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.entity.OutboxEvent;
+import com.rewardapp.service.EmployeeService;
+import com.rewardapp.service.InMemoryOutboxSink;
+import com.rewardapp.service.OutboxSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The outbox relay polls every 50ms next to replica routing. As in DataSourceRoutingConfigTest, primary and
+// replica are separate H2 databases, so a row only the replica holds shows which database served a read.
+@SpringBootTest(properties = {
+        "rewards.outbox.enabled=true",
+        "rewards.outbox.sink=memory",
+        "rewards.outbox.poll-interval-ms=50",
+        "spring.datasource.url=jdbc:h2:mem:outbox-routing-primary;DB_CLOSE_DELAY=-1",
+        "rewards.datasource.replica.jdbc-url=" + OutboxReplicaRoutingTest.REPLICA_URL,
+        "rewards.datasource.routing.stickiness=" + OutboxReplicaRoutingTest.STICKINESS_MS + "ms"})
+@ActiveProfiles({"test", "replica"})
+class OutboxReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:outbox-routing-replica;DB_CLOSE_DELAY=-1";
+    static final long STICKINESS_MS = 300;
+
+    private static final String REPLICA_ONLY_EMAIL = "outbox.replica.only@example.com";
+
+    static {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO employees (id, name, department, email) "
+                    + "VALUES (900002, 'Replica Only', 'QA', '" + REPLICA_ONLY_EMAIL + "')");
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private OutboxSink sink;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void whenOutboxIsIdle_thenPollsAndScrapesLeaveReadsOnTheReplica() throws InterruptedException {
+        // given
+        Thread.sleep(STICKINESS_MS * 2);
+
+        // when
+        double oldestAge = registry.get("rewardapp.outbox.oldest.age").gauge().value();
+        List<String> emails = emails(employeeService.getAllEmployees());
+
+        // then
+        assertThat(oldestAge).isZero();
+        assertThat(emails).contains(REPLICA_ONLY_EMAIL);
+    }
+
+    @Test
+    void whenWriteCommits_thenRelayDeliversItAndReadsReturnToTheReplica() throws InterruptedException {
+        // given
+        EmployeeDTO created = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Outbox Routing Tester")
+                .email("outbox.routing." + System.nanoTime() + "@example.com")
+                .department("QA")
+                .build());
+
+        // when
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!delivered(created.getId()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(STICKINESS_MS * 2);
+        List<String> afterWindow = emails(employeeService.getAllEmployees());
+
+        // then
+        assertThat(delivered(created.getId())).isTrue();
+        assertThat(afterWindow).contains(REPLICA_ONLY_EMAIL).doesNotContain(created.getEmail());
+    }
+
+    private boolean delivered(Long employeeId) {
+        return ((InMemoryOutboxSink) sink).published().stream()
+                .map(OutboxEvent::getAggregateId)
+                .anyMatch(employeeId::equals);
+    }
+
+    private static List<String> emails(List<EmployeeDTO> employees) {
+        return employees.stream().map(EmployeeDTO::getEmail).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.rewardapp.config;
+
+import com.rewardapp.dto.ApiResponse;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RewardAppRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new RewardAppRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void whenRegistered_thenLombokAccessorsOfDtosAreReflective() throws Exception {
+        // then
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(RewardDTO.class.getMethod("getEmployeeName")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(RewardDTO.class.getMethod("setDateAwarded", LocalDate.class)))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(RewardDTO.class.getConstructor()))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ApiResponse.class.getMethod("getData")))
+                .accepts(hints);
+    }
+
+    @Test
+    void whenRegistered_thenEntitiesAreReflective() {
+        // then
+        assertThat(RuntimeHintsPredicates.reflection().onType(Employee.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Reward.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    void whenRegistered_thenServicePayloadsAndVendorMigrationsAreIncluded() {
+        // then
+        assertThat(RuntimeHintsPredicates.reflection().onType(
+                TypeReference.of("com.rewardapp.service.OutboxService$RewardPayload")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/postgresql/V5__partition_rewards_by_month.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/common/V1__baseline_schema.sql"))
+                .accepts(hints);
+    }
+}
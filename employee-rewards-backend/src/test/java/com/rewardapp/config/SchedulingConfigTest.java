@@ -0,0 +1,33 @@
+package com.rewardapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The optional jobs that run on H2 are switched on (partition maintenance is PostgreSQL-only), so a new
+// @Scheduled method without a matching pool size fails here
+@SpringBootTest(properties = {
+        "rewards.outbox.enabled=true",
+        "rewards.outbox.poll-interval-ms=3600000",
+        "rewards.snapshots.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:scheduling;DB_CLOSE_DELAY=-1"})
+@ActiveProfiles("test")
+class SchedulingConfigTest {
+
+    @Autowired
+    private ThreadPoolTaskScheduler scheduler;
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTasks;
+
+    @Test
+    void whenAllJobsAreScheduled_thenEachHasItsOwnSchedulerThread() {
+        assertThat(scheduledTasks.getScheduledTasks()).hasSize(5);
+        assertThat(scheduler.getPoolSize()).isGreaterThanOrEqualTo(scheduledTasks.getScheduledTasks().size());
+    }
+}
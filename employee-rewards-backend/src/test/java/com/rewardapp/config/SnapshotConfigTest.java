@@ -0,0 +1,143 @@
+package com.rewardapp.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.service.EmployeeService;
+import com.rewardapp.service.ResponseSnapshots;
+import com.rewardapp.service.RewardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The scheduled refresh is pushed out so each test decides when snapshots are rebuilt
+@SpringBootTest(properties = {
+        "rewards.snapshots.enabled=true",
+        "rewards.snapshots.refresh-interval-ms=3600000",
+        "spring.datasource.url=jdbc:h2:mem:snapshots;DB_CLOSE_DELAY=-1"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SnapshotConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResponseSnapshots snapshots;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    private EmployeeDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Snapshot Tester")
+                .email("snapshot.tester." + System.nanoTime() + "@example.com")
+                .department("QA")
+                .build());
+        assign("First Award");
+    }
+
+    @Test
+    void whenSnapshotCurrent_thenServeGzippedBytesMatchingLiveResponse() throws Exception {
+        // given
+        String live = mockMvc.perform(get("/api/rewards")).andReturn().getResponse().getContentAsString();
+        snapshots.refresh();
+
+        // when
+        MockHttpServletResponse response = mockMvc.perform(get("/api/rewards")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse();
+
+        // then
+        assertThat(objectMapper.readTree(gunzip(response.getContentAsByteArray())))
+                .isEqualTo(objectMapper.readTree(live));
+        mockMvc.perform(get("/api/rewards").header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void whenWriteAfterSnapshot_thenServeLiveUntilRefreshed() throws Exception {
+        // given
+        snapshots.refresh();
+
+        // when
+        assign("Second Award");
+
+        // then
+        MockHttpServletResponse live = mockMvc.perform(get("/api/rewards").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertThat(live.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(rewardNames(objectMapper.readTree(live.getContentAsString()))).contains("Second Award");
+
+        snapshots.refresh();
+        MockHttpServletResponse snapshot = mockMvc.perform(get("/api/rewards").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+        assertThat(rewardNames(objectMapper.readTree(gunzip(snapshot.getContentAsByteArray()))))
+                .contains("Second Award");
+    }
+
+    @Test
+    void whenClientDoesNotAcceptGzip_thenServeIdentityJson() throws Exception {
+        // given
+        snapshots.refresh();
+
+        // when / then
+        MockHttpServletResponse response = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(objectMapper.readTree(response.getContentAsString()).path("data")).isNotEmpty();
+    }
+
+    private void assign(String name) {
+        rewardService.assignReward(RewardDTO.builder()
+                .employeeId(employee.getId())
+                .rewardName(name)
+                .dateAwarded(LocalDate.now())
+                .points(10)
+                .build());
+    }
+
+    private static String rewardNames(JsonNode body) {
+        StringBuilder names = new StringBuilder();
+        body.path("data").forEach(reward -> names.append(reward.path("rewardName").asText()).append(','));
+        return names.toString();
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.rewardapp.controller;
+
+import com.rewardapp.dto.AnalyticsCellDTO;
+import com.rewardapp.dto.AnalyticsReport;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.service.RewardAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AnalyticsController.class)
+public class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RewardAnalyticsService rewardAnalyticsService;
+
+    @Test
+    public void whenGetPoints_thenReturnReport() throws Exception {
+        // given
+        AnalyticsReport report = AnalyticsReport.builder()
+                .groupBy(List.of("department", "month"))
+                .totalPoints(300)
+                .totalRewards(3)
+                .cells(List.of(new AnalyticsCellDTO("Engineering", null, "2024-05", 300, 3)))
+                .build();
+        when(rewardAnalyticsService.query("Engineering", null, "2024-01", "2024-12", List.of("department", "month")))
+                .thenReturn(report);
+
+        // when & then
+        mockMvc.perform(get("/api/analytics/points")
+                        .param("department", "Engineering")
+                        .param("from", "2024-01")
+                        .param("to", "2024-12")
+                        .param("groupBy", "department,month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalPoints").value(300))
+                .andExpect(jsonPath("$.data.cells[0].month").value("2024-05"))
+                .andExpect(jsonPath("$.data.cells[0].points").value(300));
+    }
+
+    @Test
+    public void whenGetPointsWithEmptyGroupBy_thenRollUpEverything() throws Exception {
+        // given
+        when(rewardAnalyticsService.query(null, null, null, null, List.of()))
+                .thenReturn(AnalyticsReport.builder().groupBy(List.of()).cells(List.of()).build());
+
+        // when & then
+        mockMvc.perform(get("/api/analytics/points").param("groupBy", ""))
+                .andExpect(status().isOk());
+        verify(rewardAnalyticsService).query(null, null, null, null, List.of());
+    }
+
+    @Test
+    public void whenGetPointsWithInvalidDimension_thenReturnBadRequest() throws Exception {
+        // given
+        when(rewardAnalyticsService.query(any(), any(), any(), any(), any()))
+                .thenThrow(new InvalidRequestException("Unknown analytics dimension 'team'"));
+
+        // when & then
+        mockMvc.perform(get("/api/analytics/points").param("groupBy", "team"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
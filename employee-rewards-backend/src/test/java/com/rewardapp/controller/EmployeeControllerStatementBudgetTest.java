@@ -0,0 +1,82 @@
+package com.rewardapp.controller;
+
+import com.rewardapp.dto.EmployeeDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+class EmployeeControllerStatementBudgetTest extends StatementBudgetTestSupport {
+
+    @Test
+    void getAllEmployees() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/employees", 2), data -> get("/api/employees"));
+    }
+
+    @Test
+    void getEmployeePage() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/employees/page", 2),
+                data -> get("/api/employees/page").param("limit", "5"));
+    }
+
+    @Test
+    void getEmployeeById() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/employees/{id}", 2),
+                data -> get("/api/employees/{id}", data.employeeId()));
+    }
+
+    @Test
+    void createEmployee() throws Exception {
+        String body = json(EmployeeDTO.builder()
+                .name("Budget Hire").email("budget.hire@example.com").department("Engineering").build());
+        assertStatements(StatementBudget.of("POST /api/employees", 2),
+                data -> post("/api/employees").contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    @Test
+    void importEmployees() throws Exception {
+        byte[] csv = ("name,department,email\n"
+                + "Import One,Engineering,import.one@example.com\n"
+                + "Import Two,Sales,import.two@example.com\n"
+                + "Import Three,Finance,import.three@example.com\n").getBytes(StandardCharsets.UTF_8);
+        assertStatements(StatementBudget.of("POST /api/employees/import", 2),
+                data -> multipart("/api/employees/import")
+                        .file(new MockMultipartFile("file", "employees.csv", "text/csv", csv)));
+    }
+
+    @Test
+    void updateEmployee() throws Exception {
+        assertStatements(StatementBudget.of("PUT /api/employees/{id}", 5),
+                data -> put("/api/employees/{id}", data.employeeId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(EmployeeDTO.builder().name(data.employeeName())
+                                .email("budget.update@example.com").department("Marketing").build())));
+    }
+
+    @Test
+    void deleteEmployee() throws Exception {
+        assertStatements(StatementBudget.of("DELETE /api/employees/{id}", 8),
+                data -> delete("/api/employees/{id}", data.employeeId()));
+    }
+
+    @Test
+    void getEmployeesByDepartment() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/employees/department/{department}", 2),
+                data -> get("/api/employees/department/{department}", data.department()));
+    }
+
+    @Test
+    void searchEmployees() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/employees/search", 2),
+                data -> get("/api/employees/search").param("name", data.employeeName().split(" ")[0]));
+    }
+
+    @Test
+    void getAllDepartments() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/employees/departments", 1),
+                data -> get("/api/employees/departments"));
+    }
+}
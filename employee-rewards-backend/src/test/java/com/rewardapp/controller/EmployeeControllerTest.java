@@ -1,18 +1,28 @@
 package com.rewardapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.dto.CursorPage;
 import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.EmployeeImportResult;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.service.DataVersions;
+import com.rewardapp.service.EmployeeImportService;
 import com.rewardapp.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -20,6 +30,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EmployeeController.class)
+@Import(DataVersions.class)
 public class EmployeeControllerTest {
 
     @Autowired
@@ -28,9 +39,15 @@ public class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeImportService employeeImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private DataVersions dataVersions;
+
     private EmployeeDTO employeeDTO;
 
     @BeforeEach
@@ -55,6 +72,76 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.data[0].name").value("John Doe"));
     }
 
+    @Test
+    public void whenGetAllEmployees_WithCurrentETag_thenReturnNotModifiedWithoutQuery() throws Exception {
+        // given
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employeeDTO));
+        String etag = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        verify(employeeService, times(1)).getAllEmployees();
+    }
+
+    @Test
+    public void whenEmployeeChanged_thenETagNoLongerMatches() throws Exception {
+        // given
+        when(employeeService.getEmployeeById(1L)).thenReturn(employeeDTO);
+        String etag = mockMvc.perform(get("/api/employees/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String departmentsTag = dataVersions.departmentsTag();
+
+        // when
+        dataVersions.employeeChanged(1L);
+
+        // then
+        mockMvc.perform(get("/api/employees/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("John Doe"));
+        assertThat(dataVersions.departmentsTag()).isNotEqualTo(departmentsTag);
+    }
+
+    @Test
+    public void whenGetEmployeePage_thenReturnItemsAndCursor() throws Exception {
+        // given
+        when(employeeService.getEmployeePage(null, 1)).thenReturn(CursorPage.of(List.of(employeeDTO), "MQ"));
+
+        // when & then
+        mockMvc.perform(get("/api/employees/page").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id").value(1))
+                .andExpect(jsonPath("$.data.nextCursor").value("MQ"))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+    }
+
+    @Test
+    public void whenGetEmployeePage_InvalidCursor_thenReturnBadRequest() throws Exception {
+        // given
+        when(employeeService.getEmployeePage("bogus", null)).thenThrow(new InvalidRequestException("Invalid page cursor"));
+
+        // when & then
+        mockMvc.perform(get("/api/employees/page").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    public void whenSearchEmployees_thenReturnJsonArray() throws Exception {
+        // given
+        when(employeeService.searchEmployees("jhon", 5)).thenReturn(List.of(employeeDTO));
+
+        // when & then
+        mockMvc.perform(get("/api/employees/search").param("name", "jhon").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("John Doe"));
+    }
+
     @Test
     public void whenGetEmployeeById_thenReturnJson() throws Exception {
         // given
@@ -79,6 +166,22 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.data.name").value("John Doe"));
     }
 
+    @Test
+    public void whenImportEmployees_thenReturnReport() throws Exception {
+        // given
+        EmployeeImportResult report = EmployeeImportResult.builder().imported(1).failed(1).build();
+        report.getErrors().add(new EmployeeImportResult.RowError(3, "dup@example.com", "already exists"));
+        when(employeeImportService.importEmployees(any(InputStream.class))).thenReturn(report);
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv",
+                "name,department,email\nJane,HR,jane@example.com\n".getBytes());
+
+        // when & then
+        mockMvc.perform(multipart("/api/employees/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(1))
+                .andExpect(jsonPath("$.data.errors[0].line").value(3));
+    }
+
     @Test
     public void whenUpdateEmployee_thenReturnJson() throws Exception {
         // given
@@ -0,0 +1,38 @@
+package com.rewardapp.controller;
+
+import com.rewardapp.dto.LeaderboardEntryDTO;
+import com.rewardapp.service.LeaderboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LeaderboardController.class)
+public class LeaderboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LeaderboardService leaderboardService;
+
+    @Test
+    public void whenGetLeaderboard_thenReturnRankedEntries() throws Exception {
+        // given
+        LeaderboardEntryDTO entry = new LeaderboardEntryDTO(1, 1L, "John Doe", "Engineering", 500);
+        when(leaderboardService.getTop("Engineering", 5)).thenReturn(List.of(entry));
+
+        // when & then
+        mockMvc.perform(get("/api/leaderboard").param("department", "Engineering").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].rank").value(1))
+                .andExpect(jsonPath("$.data[0].totalPoints").value(500));
+    }
+}
@@ -0,0 +1,161 @@
+package com.rewardapp.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.service.EmployeeService;
+import com.rewardapp.service.RewardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Rewards are written through the JPA services and read back over R2DBC from the same database
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-reads;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-reads?options=DB_CLOSE_DELAY=-1"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveRewardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    private EmployeeDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Reactive Reader")
+                .email("reactive.reader." + System.nanoTime() + "@example.com")
+                .department("Engineering")
+                .build());
+    }
+
+    @Test
+    void whenGetRewardsByEmployee_thenStreamNdjsonNewestFirst() throws Exception {
+        // given
+        RewardDTO older = rewardService.assignReward(reward("Older", LocalDate.of(2024, 1, 10)));
+        RewardDTO newer = rewardService.assignReward(reward("Newer", LocalDate.of(2024, 2, 10)));
+
+        // when
+        List<JsonNode> rows = ndjson("/api/reactive/rewards/employee/" + employee.getId());
+
+        // then
+        assertThat(rows).extracting(row -> row.get("id").asLong()).containsExactly(newer.getId(), older.getId());
+        assertThat(rows.get(0).get("employeeName").asText()).isEqualTo("Reactive Reader");
+        assertThat(rows.get(0).get("dateAwarded").asText()).isEqualTo("2024-02-10");
+    }
+
+    @Test
+    void whenGetAllRewards_thenStreamTheSameRewardsAsTheJpaRead() throws Exception {
+        // given
+        rewardService.assignReward(reward("Listed", LocalDate.of(2024, 3, 1)));
+
+        // when
+        List<JsonNode> rows = ndjson("/api/reactive/rewards");
+
+        // then
+        assertThat(rows).extracting(row -> row.get("id").asLong())
+                .containsExactlyInAnyOrderElementsOf(rewardService.getAllRewards().stream().map(RewardDTO::getId).toList());
+    }
+
+    @Test
+    void whenGetRewardById_thenReturnApiResponse() throws Exception {
+        // given
+        RewardDTO saved = rewardService.assignReward(reward("Single", LocalDate.of(2024, 4, 1)));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/reactive/rewards/" + saved.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.rewardName").value("Single"))
+                .andExpect(jsonPath("$.data.employeeDepartment").value("Engineering"));
+    }
+
+    @Test
+    void whenRewardDoesNotExist_thenReturnNotFound() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/api/reactive/rewards/999999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void whenEmployeeDoesNotExist_thenReturnNotFound() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/api/reactive/rewards/employee/999999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    private List<JsonNode> ndjson(String path) throws Exception {
+        MvcResult result = mockMvc.perform(get(path).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return rows;
+    }
+
+    private RewardDTO reward(String name, LocalDate dateAwarded) {
+        return RewardDTO.builder()
+                .employeeId(employee.getId())
+                .rewardName(name)
+                .rewardType("Innovation")
+                .points(40)
+                .dateAwarded(dateAwarded)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.rewardapp.controller;
+
+import com.rewardapp.dto.RewardBatchRequest;
+import com.rewardapp.dto.RewardDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+class RewardControllerStatementBudgetTest extends StatementBudgetTestSupport {
+
+    @Test
+    void getAllRewards() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/rewards", 1), data -> get("/api/rewards"));
+    }
+
+    @Test
+    void getRewardPage() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/rewards/page", 1),
+                data -> get("/api/rewards/page").param("limit", "20"));
+    }
+
+    @Test
+    void getRewardsAwardedBetween() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/rewards/range", 1),
+                data -> get("/api/rewards/range").param("from", "2024-01-01").param("to", "2024-03-31"));
+    }
+
+    @Test
+    void exportRewards() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/rewards/export", 1),
+                data -> get("/api/rewards/export").param("format", "csv"));
+    }
+
+    @Test
+    void getRewardById() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/rewards/{id}", 2),
+                data -> get("/api/rewards/{id}", data.rewardId()));
+    }
+
+    @Test
+    void getRewardsByEmployee() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/rewards/employee/{employeeId}", 2),
+                data -> get("/api/rewards/employee/{employeeId}", data.employeeId()));
+    }
+
+    @Test
+    void assignReward() throws Exception {
+        assertStatements(StatementBudget.of("POST /api/rewards", 3),
+                data -> post("/api/rewards").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(reward(data.employeeId(), "Spot Award"))));
+    }
+
+    @Test
+    void assignRewards() throws Exception {
+        assertStatements(StatementBudget.of("POST /api/rewards/batch", 4),
+                data -> post("/api/rewards/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(RewardBatchRequest.builder()
+                                .rewards(List.of(reward(data.employeeId(), "Batch One"),
+                                        reward(data.employeeId(), "Batch Two"),
+                                        reward(data.employeeId() + 1, "Batch Three")))
+                                .build())));
+    }
+
+    @Test
+    void updateReward() throws Exception {
+        assertStatements(StatementBudget.of("PUT /api/rewards/{id}", 5),
+                data -> put("/api/rewards/{id}", data.rewardId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(json(reward(data.employeeId(), "Renamed Award"))));
+    }
+
+    @Test
+    void deleteReward() throws Exception {
+        assertStatements(StatementBudget.of("DELETE /api/rewards/{id}", 4),
+                data -> delete("/api/rewards/{id}", data.rewardId()));
+    }
+
+    @Test
+    void getRewardTypes() throws Exception {
+        assertStatements(StatementBudget.of("GET /api/rewards/types", 0), data -> get("/api/rewards/types"));
+    }
+
+    private static RewardDTO reward(long employeeId, String name) {
+        return RewardDTO.builder()
+                .employeeId(employeeId)
+                .rewardName(name)
+                .rewardType("Recognition")
+                .points(50)
+                .dateAwarded(LocalDate.now())
+                .build();
+    }
+}
@@ -1,26 +1,43 @@
 package com.rewardapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.dto.CursorPage;
+import com.rewardapp.dto.RewardBatchRequest;
+import com.rewardapp.dto.RewardBatchResult;
 import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.service.DataVersions;
+import com.rewardapp.service.ExportFormat;
+import com.rewardapp.service.RewardBatchService;
+import com.rewardapp.service.RewardExportService;
 import com.rewardapp.service.RewardService;
+import com.rewardapp.service.RewardStreamService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(RewardController.class)
+@Import(DataVersions.class)
 public class RewardControllerTest {
 
     @Autowired
@@ -29,6 +46,15 @@ public class RewardControllerTest {
     @MockBean
     private RewardService rewardService;
 
+    @MockBean
+    private RewardExportService rewardExportService;
+
+    @MockBean
+    private RewardBatchService rewardBatchService;
+
+    @MockBean
+    private RewardStreamService rewardStreamService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -58,6 +84,95 @@ public class RewardControllerTest {
                 .andExpect(jsonPath("$.data[0].rewardName").value("Employee of the Month"));
     }
 
+    @Test
+    public void whenGetRewardPage_thenReturnItemsAndCursor() throws Exception {
+        // given
+        when(rewardService.getRewardPage(null, 1)).thenReturn(CursorPage.of(List.of(rewardDTO), "MQ"));
+
+        // when & then
+        mockMvc.perform(get("/api/rewards/page").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id").value(1))
+                .andExpect(jsonPath("$.data.nextCursor").value("MQ"))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+    }
+
+    @Test
+    public void whenGetRewardPage_InvalidCursor_thenReturnBadRequest() throws Exception {
+        // given
+        when(rewardService.getRewardPage("bogus", null)).thenThrow(new InvalidRequestException("Invalid page cursor"));
+
+        // when & then
+        mockMvc.perform(get("/api/rewards/page").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    public void whenGetRewardsAwardedBetween_thenReturnJsonArray() throws Exception {
+        // given
+        when(rewardService.getRewardsAwardedBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31), "Performance"))
+                .thenReturn(List.of(rewardDTO));
+
+        // when & then
+        mockMvc.perform(get("/api/rewards/range")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-03-31")
+                        .param("rewardType", "Performance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].rewardName").value("Employee of the Month"));
+    }
+
+    @Test
+    public void whenGetRewardsAwardedBetween_InvalidDate_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/rewards/range").param("from", "2024-13-01").param("to", "2024-12-31"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    public void whenExportRewardsAsCsv_thenStreamAttachment() throws Exception {
+        // given
+        when(rewardExportService.exportRewards(eq(ExportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id,employeeId\n1,1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/rewards/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"rewards.csv\""))
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("id,employeeId\n1,1\n"));
+    }
+
+    @Test
+    public void whenExportRewardsWithUnknownFormat_thenReturnBadRequest() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/rewards/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenStreamRewardsWithLastEventId_thenSubscribeFromThatEvent() throws Exception {
+        // given
+        SseEmitter emitter = new SseEmitter();
+        when(rewardStreamService.subscribe("41")).thenReturn(emitter);
+
+        // when
+        mockMvc.perform(get("/api/rewards/stream").header("Last-Event-ID", "41"))
+                .andExpect(request().asyncStarted());
+
+        // then
+        verify(rewardStreamService).subscribe("41");
+    }
+
     @Test
     public void whenGetRewardById_thenReturnJson() throws Exception {
         // given
@@ -69,6 +184,20 @@ public class RewardControllerTest {
                 .andExpect(jsonPath("$.data.rewardName").value("Employee of the Month"));
     }
 
+    @Test
+    public void whenGetRewardById_WithCurrentETag_thenReturnNotModifiedWithoutQuery() throws Exception {
+        // given
+        when(rewardService.getRewardById(1L)).thenReturn(rewardDTO);
+        String etag = mockMvc.perform(get("/api/rewards/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/rewards/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(rewardService, times(1)).getRewardById(1L);
+    }
+
     @Test
     public void whenAssignReward_thenReturnCreated() throws Exception {
         // given
@@ -82,6 +211,35 @@ public class RewardControllerTest {
                 .andExpect(jsonPath("$.data.rewardName").value("Employee of the Month"));
     }
 
+    @Test
+    public void whenAssignRewardsInBatch_thenReturnCreated() throws Exception {
+        // given
+        when(rewardBatchService.assignRewards(anyList())).thenReturn(new RewardBatchResult(1, List.of(1L)));
+
+        // when & then
+        mockMvc.perform(post("/api/rewards/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RewardBatchRequest(List.of(rewardDTO)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.ids[0]").value(1));
+    }
+
+    @Test
+    public void whenAssignRewardsInBatch_InvalidReward_thenReturnBadRequest() throws Exception {
+        // given
+        rewardDTO.setRewardName("");
+
+        // when & then
+        mockMvc.perform(post("/api/rewards/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RewardBatchRequest(List.of(rewardDTO)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data['rewards[0].rewardName']").exists());
+
+        verify(rewardBatchService, never()).assignRewards(anyList());
+    }
+
     @Test
     public void whenUpdateReward_thenReturnJson() throws Exception {
         // given
@@ -0,0 +1,26 @@
+package com.rewardapp.controller;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Statement budget for one endpoint: the statements it executes, measured once per dataset size, must stay
+// within the declared maximum and must not change with the amount of data (the signature of an N+1).
+record StatementBudget(String endpoint, int max) {
+
+    static StatementBudget of(String endpoint, int max) {
+        return new StatementBudget(endpoint, max);
+    }
+
+    void verify(Map<Integer, Long> statementsByDatasetSize) {
+        assertThat(statementsByDatasetSize.values())
+                .as("%s statements per dataset size %s", endpoint, statementsByDatasetSize)
+                .allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(max))
+                .containsOnly(statementsByDatasetSize.values().iterator().next());
+    }
+
+    @FunctionalInterface
+    interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,130 @@
+package com.rewardapp.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.controller.StatementCountingDataSource.StatementCount;
+import com.rewardapp.service.EmployeeSearchIndex;
+import com.rewardapp.service.LeaderboardService;
+import com.rewardapp.service.RewardSummaryService;
+import com.rewardapp.service.SyntheticDataGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+// Runs each endpoint against datasets an order of magnitude apart and checks its statement budget.
+// Caches, the summary table and the in-memory indexes are rebuilt per dataset so nothing is served warm.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCountingDataSource.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:statement-budget;DB_CLOSE_DELAY=-1")
+abstract class StatementBudgetTestSupport {
+
+    private static final int[][] DATASETS = {{10, 100}, {100, 2_000}};
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    private StatementCount statementCount;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private RewardSummaryService rewardSummaryService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    protected void assertStatements(StatementBudget budget, Function<Dataset, RequestBuilder> request) throws Exception {
+        Map<Integer, Long> statementsByDatasetSize = new LinkedHashMap<>();
+        for (int[] size : DATASETS) {
+            Dataset dataset = load(size[0], size[1]);
+            RequestBuilder builder = request.apply(dataset);
+            statementsByDatasetSize.put(size[1], statementCount.during(() -> perform(budget, builder)));
+        }
+        budget.verify(statementsByDatasetSize);
+    }
+
+    private void perform(StatementBudget budget, RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        assertThat(result.getResponse().getStatus())
+                .as("%s status: %s", budget.endpoint(), result.getResponse().getContentAsString())
+                .isBetween(200, 299);
+    }
+
+    private Dataset load(int employees, int rewards) {
+        jdbcTemplate.update("DELETE FROM rewards");
+        jdbcTemplate.update("DELETE FROM employee_reward_summary");
+        jdbcTemplate.update("DELETE FROM employees");
+        // The generator continues after MAX(id); placeholder rows at the current sequence values keep it
+        // clear of ids Hibernate already holds in its pooled block from the previous dataset
+        long employeeFloor = nextSequenceValue("EMPLOYEES_SEQ");
+        jdbcTemplate.update("INSERT INTO employees (id, name, department, email) "
+                + "VALUES (?, 'Floor', 'Floor', 'floor@example.com')", employeeFloor);
+        jdbcTemplate.update("INSERT INTO rewards (id, employee_id, reward_name, date_awarded) "
+                + "VALUES (?, ?, 'Floor', CURRENT_DATE)", nextSequenceValue("REWARDS_SEQ"), employeeFloor);
+        generator.generate(employees, rewards, 1_000, 42L);
+        jdbcTemplate.update("DELETE FROM rewards WHERE employee_id = ?", employeeFloor);
+        jdbcTemplate.update("DELETE FROM employees WHERE id = ?", employeeFloor);
+        rewardSummaryService.rebuild();
+        leaderboardService.reload();
+        searchIndex.reload();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        // The first employee is the most rewarded one under the generator's skew
+        Map<String, Object> employee = jdbcTemplate.queryForMap(
+                "SELECT id, name, department FROM employees ORDER BY id FETCH FIRST 1 ROWS ONLY");
+        Long rewardId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM rewards WHERE employee_id = ?", Long.class, employee.get("id"));
+        return new Dataset(((Number) employee.get("id")).longValue(), rewardId,
+                (String) employee.get("name"), (String) employee.get("department"));
+    }
+
+    private long nextSequenceValue(String sequence) {
+        return jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequence);
+    }
+
+    protected String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Dataset(long employeeId, long rewardId, String employeeName, String department) {
+    }
+}
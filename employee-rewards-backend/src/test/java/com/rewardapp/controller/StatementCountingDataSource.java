@@ -0,0 +1,67 @@
+package com.rewardapp.controller;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Wraps the application DataSource with datasource-proxy and counts every statement execution (a JDBC
+// batch counts once, as one round trip). Counting is global rather than per thread so statements run by
+// async work such as the streaming export are included. Sequence calls are left out: the pooled optimizer
+// fetches one per 50 ids, so whether a request pays for it depends on earlier requests, not on the request.
+@TestConfiguration
+class StatementCountingDataSource {
+
+    @Bean
+    static StatementCount statementCount() {
+        return new StatementCount();
+    }
+
+    @Bean
+    static BeanPostProcessor statementCountingPostProcessor(StatementCount statementCount) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("statement-count")
+                            .listener(statementCount)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class StatementCount implements QueryExecutionListener {
+
+        private final AtomicLong executions = new AtomicLong();
+
+        long during(StatementBudget.Action action) throws Exception {
+            executions.set(0);
+            action.run();
+            return executions.get();
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            boolean sequenceCall = queryInfoList.stream()
+                    .allMatch(query -> query.getQuery().toLowerCase(Locale.ROOT).contains("next value for"));
+            if (!sequenceCall) {
+                executions.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.rewardapp.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LogRateLimiter limiter = new LogRateLimiter(2, Duration.ofSeconds(10), clock::get);
+
+    @Test
+    void whenPermitsExhausted_thenSuppressUntilNextInterval() {
+        // when / then
+        assertThat(limiter.acquire("not-found")).isZero();
+        assertThat(limiter.acquire("not-found")).isZero();
+        assertThat(limiter.acquire("not-found")).isEqualTo(LogRateLimiter.SUPPRESSED);
+        assertThat(limiter.acquire("not-found")).isEqualTo(LogRateLimiter.SUPPRESSED);
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(limiter.acquire("not-found")).isEqualTo(2);
+        assertThat(limiter.acquire("not-found")).isZero();
+    }
+
+    @Test
+    void whenDifferentKeys_thenLimitEachSeparately() {
+        // given
+        limiter.acquire("not-found");
+        limiter.acquire("not-found");
+
+        // when / then
+        assertThat(limiter.acquire("not-found")).isEqualTo(LogRateLimiter.SUPPRESSED);
+        assertThat(limiter.acquire("duplicate")).isZero();
+    }
+}
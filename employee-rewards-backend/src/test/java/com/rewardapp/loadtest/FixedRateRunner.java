@@ -0,0 +1,96 @@
+package com.rewardapp.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-model load: requests are issued on a fixed schedule whether or not earlier ones have returned, and
+// latency is measured from the scheduled send time, so a stalled server shows up in the tail instead of
+// silently lowering the offered rate (coordinated omission).
+@Slf4j
+class FixedRateRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final HttpClient client;
+    private final int maxInFlight;
+
+    FixedRateRunner(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+    }
+
+    LoadReport run(String baseUrl, LoadScenario scenario, double requestsPerSecond, Duration warmUp,
+                   Duration duration, long seed) throws InterruptedException {
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+        Map<String, AtomicLong> dropped = new ConcurrentHashMap<>();
+        for (Operation operation : scenario.operations()) {
+            histograms.put(operation.name(), new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation.name(), new AtomicLong());
+            dropped.put(operation.name(), new AtomicLong());
+        }
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        long intervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        long start = System.nanoTime();
+        long measureFrom = start + warmUp.toNanos();
+        long end = measureFrom + duration.toNanos();
+        log.info("Offering {} req/s for {} s after {} s warm-up", requestsPerSecond, duration.toSeconds(), warmUp.toSeconds());
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = scenario.next(random);
+            boolean measured = intended >= measureFrom;
+            if (!inFlight.tryAcquire()) {
+                // The server is so far behind that the client limit is reached: count it against the SLO
+                if (measured) {
+                    dropped.get(operation.name()).incrementAndGet();
+                }
+                continue;
+            }
+            long scheduled = intended;
+            client.sendAsync(operation.newRequest(baseUrl, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        inFlight.release();
+                        if (!measured) {
+                            return;
+                        }
+                        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, (System.nanoTime() - scheduled) / 1_000);
+                        histograms.get(operation.name()).recordValue(micros);
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.get(operation.name()).incrementAndGet();
+                        }
+                    });
+        }
+        if (!inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+            log.warn("{} requests still in flight after the run", maxInFlight - inFlight.availablePermits());
+        }
+
+        Map<String, LoadReport.OperationStats> stats = new LinkedHashMap<>();
+        histograms.forEach((name, histogram) -> stats.put(name, new LoadReport.OperationStats(name,
+                histogram.copy(), errors.get(name).get(), dropped.get(name).get())));
+        return new LoadReport(stats, duration, requestsPerSecond);
+    }
+}
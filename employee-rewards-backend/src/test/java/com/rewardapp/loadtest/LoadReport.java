@@ -0,0 +1,52 @@
+package com.rewardapp.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+record LoadReport(Map<String, OperationStats> operations, Duration duration, double offeredRate) {
+
+    // errors: completed with a failure or 4xx/5xx; dropped: never sent because the in-flight limit was hit
+    record OperationStats(String name, Histogram histogram, long errors, long dropped) {
+
+        double errorRate() {
+            long requests = histogram.getTotalCount() + dropped;
+            return requests == 0 ? 0 : (double) (errors + dropped) / requests;
+        }
+
+        double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+    }
+
+    String summary() {
+        StringBuilder out = new StringBuilder(String.format("Offered %.0f req/s for %d s%n",
+                offeredRate, duration.toSeconds()));
+        out.append(String.format("%-45s %8s %8s %9s %9s %9s %9s %7s %7s%n",
+                "operation", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors", "dropped"));
+        for (OperationStats stats : operations.values()) {
+            out.append(String.format("%-45s %8d %8.1f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+                    stats.name(), stats.histogram().getTotalCount(),
+                    stats.histogram().getTotalCount() / (double) duration.toSeconds(),
+                    stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99),
+                    stats.histogram().getMaxValue() / 1_000.0, stats.errors(), stats.dropped()));
+        }
+        return out.toString();
+    }
+
+    // One HdrHistogram percentile distribution (.hgrm, in ms) per operation for plotting and comparing runs
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (OperationStats stats : operations.values()) {
+            String file = stats.name().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(file)))) {
+                stats.histogram().outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+    }
+}
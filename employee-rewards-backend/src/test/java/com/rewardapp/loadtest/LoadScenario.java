@@ -0,0 +1,90 @@
+package com.rewardapp.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Weighted mix of API calls; the default mix is read-heavy with ~5% reward writes
+class LoadScenario {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] SEARCH_TERMS = {"arj", "priya", "sharma", "kumar", "chen", "olivia", "patel",
+            "smtih", "jhon", "meera", "nair", "wei"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Customer Support", "Marketing", "HR"};
+    private static final String[] REWARD_TYPES = {"Performance", "Teamwork", "Innovation", "Leadership"};
+
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    LoadScenario(List<Operation> operations) {
+        this.operations = List.copyOf(operations);
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    static LoadScenario mixed(long minEmployeeId, long maxEmployeeId) {
+        return new LoadScenario(List.of(
+                new Operation("GET /api/employees/{id}", 20,
+                        (base, random) -> get(base + "/api/employees/" + employeeId(random, minEmployeeId, maxEmployeeId))),
+                new Operation("GET /api/employees/page", 10,
+                        (base, random) -> get(base + "/api/employees/page?limit=50")),
+                new Operation("GET /api/employees/search", 10,
+                        (base, random) -> get(base + "/api/employees/search?name="
+                                + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)])),
+                new Operation("GET /api/employees/department/{department}", 5,
+                        (base, random) -> get(base + "/api/employees/department/"
+                                + URLEncoder.encode(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)], StandardCharsets.UTF_8)
+                                        .replace("+", "%20"))),
+                new Operation("GET /api/rewards/page", 20,
+                        (base, random) -> get(base + "/api/rewards/page?limit=50")),
+                new Operation("GET /api/rewards/employee/{id}", 15,
+                        (base, random) -> get(base + "/api/rewards/employee/" + employeeId(random, minEmployeeId, maxEmployeeId))),
+                new Operation("GET /api/leaderboard", 15,
+                        (base, random) -> get(base + "/api/leaderboard?limit=10")),
+                new Operation("POST /api/rewards", 5,
+                        (base, random) -> post(base + "/api/rewards", rewardJson(random, minEmployeeId, maxEmployeeId)))));
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    Operation next(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Scenario has no operations");
+    }
+
+    private static long employeeId(SplittableRandom random, long min, long max) {
+        return random.nextLong(min, max + 1);
+    }
+
+    private static String rewardJson(SplittableRandom random, long minEmployeeId, long maxEmployeeId) {
+        return "{\"employeeId\":" + employeeId(random, minEmployeeId, maxEmployeeId)
+                + ",\"rewardName\":\"Load Test Award\""
+                + ",\"rewardType\":\"" + REWARD_TYPES[random.nextInt(REWARD_TYPES.length)] + "\""
+                + ",\"dateAwarded\":\"" + LocalDate.now() + "\""
+                + ",\"points\":" + (50 + random.nextInt(10) * 25) + "}";
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT).GET().build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.rewardapp.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+// One weighted step of a scenario; builds a fresh request against the base URL for every arrival
+record Operation(String name, int weight, BiFunction<String, SplittableRandom, HttpRequest> request) {
+
+    HttpRequest newRequest(String baseUrl, SplittableRandom random) {
+        return request.apply(baseUrl, random);
+    }
+}
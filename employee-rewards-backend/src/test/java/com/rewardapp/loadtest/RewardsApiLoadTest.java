@@ -0,0 +1,66 @@
+package com.rewardapp.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Boots the app on synthetic data (SyntheticDataInitializer), drives the mixed scenario at a fixed
+// arrival rate and fails on any SLO breach. Histograms are written to target/loadtest.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "synthetic-data", "loadtest"})
+@Tag("loadtest")
+@Slf4j
+class RewardsApiLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.rate}")
+    private double rate;
+
+    @Value("${loadtest.warm-up}")
+    private Duration warmUp;
+
+    @Value("${loadtest.duration}")
+    private Duration duration;
+
+    @Value("${loadtest.max-in-flight}")
+    private int maxInFlight;
+
+    @Value("${loadtest.seed}")
+    private long seed;
+
+    @Value("${loadtest.slo}")
+    private String sloResource;
+
+    @Test
+    void mixedWorkloadMeetsSlos() throws Exception {
+        Map<String, Object> ids = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM employees");
+        LoadScenario scenario = LoadScenario.mixed(((Number) ids.get("min_id")).longValue(),
+                ((Number) ids.get("max_id")).longValue());
+
+        LoadReport report = new FixedRateRunner(maxInFlight)
+                .run("http://localhost:" + port, scenario, rate, warmUp, duration, seed);
+        log.info("\n{}", report.summary());
+        report.writeHistograms(Path.of("target", "loadtest"));
+
+        List<String> violations = SloPolicy.load(sloResource).violations(report);
+        assertThat(violations).as("SLO violations").isEmpty();
+    }
+}
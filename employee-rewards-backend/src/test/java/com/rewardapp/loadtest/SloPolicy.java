@@ -0,0 +1,61 @@
+package com.rewardapp.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+// Per-operation latency and error budgets from loadtest/slo.properties; "default.*" applies to any
+// operation without its own entry
+class SloPolicy {
+
+    private final Properties thresholds;
+
+    private SloPolicy(Properties thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    static SloPolicy load(String resource) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = SloPolicy.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("SLO file not found on classpath: " + resource);
+            }
+            properties.load(in);
+        }
+        return new SloPolicy(properties);
+    }
+
+    List<String> violations(LoadReport report) {
+        List<String> violations = new ArrayList<>();
+        for (LoadReport.OperationStats stats : report.operations().values()) {
+            check(violations, stats, "p50-ms", 50);
+            check(violations, stats, "p99-ms", 99);
+            check(violations, stats, "p999-ms", 99.9);
+            double maxErrorRate = threshold(stats.name(), "error-rate");
+            if (!Double.isNaN(maxErrorRate) && stats.errorRate() > maxErrorRate) {
+                violations.add(String.format("%s error rate %.4f > %.4f", stats.name(), stats.errorRate(), maxErrorRate));
+            }
+        }
+        return violations;
+    }
+
+    private void check(List<String> violations, LoadReport.OperationStats stats, String key, double percentile) {
+        double limit = threshold(stats.name(), key);
+        if (Double.isNaN(limit) || stats.histogram().getTotalCount() == 0) {
+            return;
+        }
+        double actual = stats.percentileMillis(percentile);
+        if (actual > limit) {
+            violations.add(String.format("%s %s %.2f > %.2f", stats.name(), key, actual, limit));
+        }
+    }
+
+    // Keys use the operation name with spaces replaced, e.g. GET_/api/rewards/page.p99-ms
+    private double threshold(String operation, String key) {
+        String value = thresholds.getProperty(operation.replace(' ', '_') + "." + key,
+                thresholds.getProperty("default." + key));
+        return value == null ? Double.NaN : Double.parseDouble(value.trim());
+    }
+}
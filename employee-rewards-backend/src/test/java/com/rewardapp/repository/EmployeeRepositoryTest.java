@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -105,4 +106,14 @@ public class EmployeeRepositoryTest {
         assertThat(departments).contains("Engineering", "HR");
         assertThat(departments).hasSize(2);
     }
+
+    @Test
+    public void whenFindByIdGreaterThan_thenReturnNextEmployeesInIdOrder() {
+        // when
+        List<Employee> found = employeeRepository.findByIdGreaterThanOrderByIdAsc(employee1.getId(), Limit.of(10));
+
+        // then
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getEmail()).isEqualTo(employee2.getEmail());
+    }
 }
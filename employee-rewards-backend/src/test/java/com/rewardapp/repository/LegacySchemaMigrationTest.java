@@ -0,0 +1,72 @@
+package com.rewardapp.repository;
+
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A database as ddl-auto=update left it (IDENTITY ids, no sequences, no employee_reward_summary) is adopted
+// the way production adopts it: baselined at V1, migrated, then validated by Hibernate on startup
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + LegacySchemaMigrationTest.LEGACY_URL,
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1"})
+@ActiveProfiles("test")
+class LegacySchemaMigrationTest {
+
+    static final String LEGACY_URL = "jdbc:h2:mem:legacy-ddl-auto;DB_CLOSE_DELAY=-1";
+
+    static {
+        try (Connection connection = DriverManager.getConnection(LEGACY_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE employees (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "name VARCHAR(255) NOT NULL, department VARCHAR(255) NOT NULL, "
+                    + "email VARCHAR(255) NOT NULL UNIQUE, job_title VARCHAR(255), created_at TIMESTAMP(6))");
+            statement.execute("CREATE TABLE rewards (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "employee_id BIGINT NOT NULL REFERENCES employees (id), reward_name VARCHAR(255) NOT NULL, "
+                    + "date_awarded DATE NOT NULL, reward_type VARCHAR(255), points INTEGER, "
+                    + "description VARCHAR(500), created_at TIMESTAMP(6))");
+            statement.execute("INSERT INTO employees (id, name, department, email) "
+                    + "VALUES (7, 'Legacy Employee', 'Finance', 'legacy@example.com')");
+            statement.execute("INSERT INTO rewards (id, employee_id, reward_name, date_awarded, points) VALUES "
+                    + "(120, 7, 'Old Award', DATE '2023-03-01', 30), (121, 7, 'Newer Award', DATE '2023-09-01', 20)");
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Test
+    void whenBaselinedFromDdlAutoSchema_thenSummariesAreBackfilled() {
+        // when
+        EmployeeDTO legacy = employeeService.getEmployeeById(7L);
+
+        // then
+        assertThat(legacy.getRewardCount()).isEqualTo(2);
+        assertThat(legacy.getTotalPoints()).isEqualTo(50);
+    }
+
+    @Test
+    void whenBaselinedFromDdlAutoSchema_thenNewIdsStartPastExistingRows() {
+        // when
+        EmployeeDTO created = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Post Migration")
+                .email("post.migration@example.com")
+                .department("Finance")
+                .build());
+
+        // then
+        assertThat(created.getId()).isGreaterThan(7L);
+    }
+}
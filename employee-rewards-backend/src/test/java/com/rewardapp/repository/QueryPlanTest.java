@@ -0,0 +1,193 @@
+package com.rewardapp.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs EXPLAIN on the SQL each repository query generates against the Flyway schema and fails when H2
+// plans a full table scan, i.e. when a query loses the index created for it in db/migration.
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.rewardapp.repository.RecordingStatementInspector")
+public class QueryPlanTest {
+
+    private static final int EMPLOYEES = 2_000;
+    private static final int REWARDS_PER_EMPLOYEE = 10;
+    private static final String[] DEPARTMENTS = {"Engineering", "Marketing", "HR", "Sales", "Finance",
+            "Legal", "Support", "Operations", "Design", "Research"};
+    private static final String[] REWARD_TYPES = {"Performance", "Innovation", "Teamwork", "Leadership"};
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private EmployeeRewardSummaryRepository summaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> employees = new ArrayList<>(EMPLOYEES);
+        List<Object[]> rewards = new ArrayList<>(EMPLOYEES * REWARDS_PER_EMPLOYEE);
+        List<Object[]> summaries = new ArrayList<>(EMPLOYEES);
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            employees.add(new Object[]{id, "Employee " + id, DEPARTMENTS[(int) (id % DEPARTMENTS.length)],
+                    "employee" + id + "@example.com", Timestamp.valueOf(now)});
+            for (int i = 0; i < REWARDS_PER_EMPLOYEE; i++) {
+                long rewardId = (id - 1) * REWARDS_PER_EMPLOYEE + i + 1;
+                rewards.add(new Object[]{rewardId, id, "Award " + rewardId, Date.valueOf(LocalDate.now().minusDays(rewardId % 365)),
+                        REWARD_TYPES[(int) (rewardId % REWARD_TYPES.length)], 100, Timestamp.valueOf(now)});
+            }
+            summaries.add(new Object[]{id, REWARDS_PER_EMPLOYEE, REWARDS_PER_EMPLOYEE * 100, Date.valueOf(LocalDate.now())});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, department, email, created_at) VALUES (?, ?, ?, ?, ?)", employees);
+        jdbcTemplate.batchUpdate("INSERT INTO rewards (id, employee_id, reward_name, date_awarded, reward_type, points, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", rewards);
+        jdbcTemplate.batchUpdate("INSERT INTO employee_reward_summary (employee_id, reward_count, total_points, last_award_date) " +
+                "VALUES (?, ?, ?, ?)", summaries);
+    }
+
+    @Test
+    public void employeeLookupsUseIndexes() {
+        assertIndexed(() -> employeeRepository.findById(42L));
+        assertIndexed(() -> employeeRepository.findByEmail("employee42@example.com"));
+        assertIndexed(() -> employeeRepository.existsByEmail("employee42@example.com"));
+        assertIndexed(() -> employeeRepository.findExistingEmails(List.of("employee1@example.com", "employee2@example.com")));
+        assertIndexed(() -> employeeRepository.findByIdWithRewards(42L));
+    }
+
+    @Test
+    public void whenFindByDepartmentIgnoreCase_thenUseDepartmentKeyIndex() {
+        List<String> plans = assertIndexed(() -> employeeRepository.findByDepartmentIgnoreCase("engineering"));
+
+        assertThat(plans).anyMatch(plan -> plan.contains("IDX_EMPLOYEES_DEPARTMENT_KEY"));
+    }
+
+    @Test
+    public void whenFindAllDepartments_thenReadDepartmentIndexInOrder() {
+        List<String> plans = assertIndexed(() -> employeeRepository.findAllDepartments());
+
+        assertThat(plans).anyMatch(plan -> plan.contains("IDX_EMPLOYEES_DEPARTMENT") && plan.contains("index sorted"));
+    }
+
+    @Test
+    public void employeePagesWalkPrimaryKey() {
+        assertIndexed(() -> employeeRepository.findAllByOrderByIdAsc(Limit.of(50)));
+        assertIndexed(() -> employeeRepository.findByIdGreaterThanOrderByIdAsc(1_000L, Limit.of(50)));
+    }
+
+    @Test
+    public void perEmployeeRewardQueriesUseEmployeeIndex() {
+        assertIndexed(() -> rewardRepository.findByEmployeeId(42L));
+        assertIndexed(() -> rewardRepository.findByEmployeeIdWithEmployee(42L));
+        assertIndexed(() -> rewardRepository.countByEmployeeId(42L));
+        assertIndexed(() -> rewardRepository.sumPointsByEmployeeId(42L));
+        assertIndexed(() -> rewardRepository.findRewardStatsByEmployeeIds(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void whenFindByRewardTypeIgnoreCase_thenUseRewardTypeKeyIndex() {
+        List<String> plans = assertIndexed(() -> rewardRepository.findByRewardTypeIgnoreCase("teamwork"));
+
+        assertThat(plans).anyMatch(plan -> plan.contains("IDX_REWARDS_REWARD_TYPE_KEY"));
+    }
+
+    @Test
+    public void rewardPagesWalkDateIndex() {
+        LocalDate today = LocalDate.now();
+        List<String> plans = new ArrayList<>();
+        plans.addAll(assertIndexed(() -> rewardRepository.findFirstPageWithEmployee(Limit.of(50))));
+        plans.addAll(assertIndexed(() -> rewardRepository.findPageWithEmployeeAfter(today.minusDays(30), 5_000L, Limit.of(50))));
+        plans.addAll(assertIndexed(() -> rewardRepository.findAllWithEmployee()));
+
+        assertThat(plans).allMatch(plan -> plan.contains("IDX_REWARDS_DATE_AWARDED_ID") && plan.contains("index sorted"));
+    }
+
+    @Test
+    public void dateRangeReadsSeekTheDateIndex() {
+        LocalDate today = LocalDate.now();
+        List<String> dateOnly = assertIndexed(() -> rewardRepository.findByDateAwardedBetweenWithEmployee(
+                today.minusDays(60), today));
+        // Compares the generated reward_type_key, so the planner may seek either index
+        List<String> typeAndDate = assertIndexed(() -> rewardRepository.findByRewardTypeIgnoreCaseAndDateAwardedBetweenWithEmployee(
+                "teamwork", today.minusDays(60), today));
+
+        assertThat(dateOnly).allMatch(plan -> plan.contains("IDX_REWARDS_DATE_AWARDED_ID"));
+        assertThat(typeAndDate).allMatch(plan -> plan.contains("IDX_REWARDS_DATE_AWARDED_ID")
+                || plan.contains("IDX_REWARDS_REWARD_TYPE_KEY"));
+    }
+
+    @Test
+    public void wholeTableReadsFollowAnIndexOrder() {
+        assertIndexed(() -> {
+            try (var rewards = rewardRepository.streamAllWithEmployee()) {
+                rewards.limit(10).forEach(reward -> { });
+            }
+        });
+        assertIndexed(() -> rewardRepository.findAllRewardStats());
+    }
+
+    @Test
+    public void whenFindPointsPerEmployee_thenScanOnlyTheDrivingTable() {
+        // Aggregates every reward of every employee: one table is read in full, the other through its index
+        RecordingStatementInspector.clear();
+        rewardRepository.findPointsPerEmployee();
+
+        String plan = explain(RecordingStatementInspector.statements().get(0));
+
+        assertThat(plan.split("\\.tableScan", -1)).hasSizeLessThanOrEqualTo(2);
+        assertThat(plan).contains("EMPLOYEE_ID = E1_0.ID */");
+    }
+
+    @Test
+    public void summaryMaintenanceUsesKeys() {
+        assertIndexed(() -> summaryRepository.findStatsByEmployeeIds(List.of(1L, 2L, 3L)));
+        assertIndexed(() -> summaryRepository.addAwards(42L, 1, 100, LocalDate.now()));
+        assertIndexed(() -> summaryRepository.removeAward(42L, 100));
+    }
+
+    // findByNameContainingIgnoreCase is not covered: a '%term%' match cannot use a B-tree index, and
+    // employee search is served by EmployeeSearchIndex instead.
+
+    private List<String> assertIndexed(Runnable query) {
+        RecordingStatementInspector.clear();
+        query.run();
+        List<String> statements = RecordingStatementInspector.statements();
+        assertThat(statements).as("statements issued").isNotEmpty();
+
+        List<String> plans = new ArrayList<>();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as("plan for %s", sql).doesNotContain(".tableScan");
+            plans.add(plan);
+        }
+        return plans;
+    }
+
+    // Parameters are left unbound (null): H2 plans against ?n placeholders without evaluating them
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.query("EXPLAIN " + sql, ps -> {
+            int parameters = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                ps.setObject(i, null);
+            }
+        }, (rs, row) -> rs.getString(1)));
+    }
+}
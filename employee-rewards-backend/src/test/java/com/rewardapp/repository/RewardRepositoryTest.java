@@ -7,9 +7,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -81,6 +84,20 @@ class RewardRepositoryTest {
         assertThat(found.get(0).getRewardName()).isEqualTo(reward1.getRewardName());
     }
 
+    @Test
+    void whenFindByRewardTypeIgnoreCaseInDateRange_thenMatchTheGeneratedKey() {
+        // given
+        entityManager.clear();
+
+        // when
+        List<Reward> found = rewardRepository.findByRewardTypeIgnoreCaseAndDateAwardedBetweenWithEmployee(
+                "teamWORK", LocalDate.now().minusDays(30), LocalDate.now());
+
+        // then
+        assertThat(found).extracting(Reward::getRewardName).containsExactly(reward2.getRewardName());
+        assertThat(found.get(0).getRewardTypeKey()).isEqualTo("TEAMWORK");
+    }
+
     @Test
     void whenCountByEmployeeId_thenReturnCount() {
         // when
@@ -98,4 +115,71 @@ class RewardRepositoryTest {
         // then
         assertThat(sum).isEqualTo(150);
     }
+
+    @Test
+    void whenFindRewardStatsByEmployeeIds_thenReturnGroupedCountAndSum() {
+        // when
+        List<EmployeeRewardStats> stats = rewardRepository.findRewardStatsByEmployeeIds(List.of(employee.getId()));
+
+        // then
+        assertThat(stats).hasSize(1);
+        assertThat(stats.get(0).getEmployeeId()).isEqualTo(employee.getId());
+        assertThat(stats.get(0).getRewardCount()).isEqualTo(2);
+        assertThat(stats.get(0).getTotalPoints()).isEqualTo(150);
+    }
+
+    @Test
+    void whenFindRewardStatsByMoreEmployeeIdsThanOneChunk_thenQueryEveryChunk() {
+        // given
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(-2_500, -1).boxed().toList());
+        ids.add(employee.getId());
+
+        // when
+        List<EmployeeRewardStats> stats = rewardRepository.findRewardStatsByEmployeeIds(ids);
+
+        // then
+        assertThat(stats).extracting(EmployeeRewardStats::getEmployeeId).containsExactly(employee.getId());
+        assertThat(stats.get(0).getTotalPoints()).isEqualTo(150);
+    }
+
+    @Test
+    void whenFindDailyAggregatesByEmployeeId_thenGroupByTypeAndDayWithDepartment() {
+        // given
+        entityManager.persist(Reward.builder()
+                .employee(employee)
+                .rewardName("Second Performance Award")
+                .dateAwarded(reward1.getDateAwarded())
+                .rewardType("Performance")
+                .points(25)
+                .build());
+        entityManager.flush();
+
+        // when
+        List<RewardAggregateView> found = rewardRepository.findDailyAggregatesByEmployeeId(employee.getId());
+
+        // then
+        assertThat(found).hasSize(2);
+        assertThat(found).extracting(RewardAggregateView::getDepartment).containsOnly("Marketing");
+        RewardAggregateView performance = found.stream()
+                .filter(view -> "Performance".equals(view.getRewardType()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(performance.getDateAwarded()).isEqualTo(reward1.getDateAwarded());
+        assertThat(performance.getTotalPoints()).isEqualTo(125);
+        assertThat(performance.getRewardCount()).isEqualTo(2);
+    }
+
+    @Test
+    void whenFindPageWithEmployeeAfter_thenSeekPastCursorInDateAndIdOrder() {
+        // given
+        List<Reward> firstPage = rewardRepository.findFirstPageWithEmployee(Limit.of(1));
+        Reward last = firstPage.get(0);
+
+        // when
+        List<Reward> nextPage = rewardRepository.findPageWithEmployeeAfter(last.getDateAwarded(), last.getId(), Limit.of(10));
+
+        // then
+        assertThat(last.getRewardName()).isEqualTo(reward2.getRewardName());
+        assertThat(nextPage).extracting(Reward::getRewardName).containsExactly(reward1.getRewardName());
+    }
 }
@@ -0,0 +1,108 @@
+package com.rewardapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataVersionsTest {
+
+    private DataVersions dataVersions;
+
+    @BeforeEach
+    public void setUp() {
+        // Room for two stamps per kind; cache maintenance runs on the calling thread
+        dataVersions = new DataVersions(2, Runnable::run);
+    }
+
+    @Test
+    public void whenMoreEmployeesChangeThanStampsAreKept_thenEveryChangedEmployeeGetsANewTag() {
+        // given
+        List<String> before = new ArrayList<>();
+        LongStream.rangeClosed(1, 5).forEach(id -> before.add(dataVersions.employeeTag(id)));
+        String untouched = dataVersions.employeeTag(99L);
+
+        // when
+        LongStream.rangeClosed(1, 5).forEach(dataVersions::employeeChanged);
+
+        // then
+        for (long id = 1; id <= 5; id++) {
+            assertThat(dataVersions.employeeTag(id)).isNotEqualTo(before.get((int) id - 1));
+        }
+        // evicted stamps raised the shared floor
+        assertThat(dataVersions.employeeTag(99L)).isNotEqualTo(untouched);
+    }
+
+    @Test
+    public void whenEmployeeDeleted_thenNoTagIssuedForItMatchesAgain() {
+        // given
+        String beforeChange = dataVersions.employeeTag(1L);
+        dataVersions.employeeChanged(1L);
+        String afterChange = dataVersions.employeeTag(1L);
+
+        // when
+        dataVersions.employeeDeleted(1L);
+
+        // then
+        assertThat(dataVersions.employeeTag(1L)).isNotIn(beforeChange, afterChange);
+    }
+
+    @Test
+    public void whenRewardDeleted_thenItsTagAndItsEmployeesTagChange() {
+        // given
+        dataVersions.rewardChanged(7L, 1L);
+        String rewardTag = dataVersions.rewardTag(7L);
+        String employeeTag = dataVersions.employeeTag(1L);
+
+        // when
+        dataVersions.rewardDeleted(7L, 1L);
+
+        // then
+        assertThat(dataVersions.rewardTag(7L)).isNotEqualTo(rewardTag);
+        assertThat(dataVersions.employeeTag(1L)).isNotEqualTo(employeeTag);
+    }
+
+    @Test
+    public void whenReadRunsBetweenCommitCallbacks_thenNewTagNeverPairsWithTheOldBody() {
+        // given
+        Cache employees = new TransactionAwareCacheDecorator(new ConcurrentMapCache("employees"));
+        employees.put(1L, "old body");
+        String oldTag = dataVersions.employeeTag(1L);
+        List<String> reads = new ArrayList<>();
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // the write's body stamps the employee; @CacheEvict registers its eviction once the method returns
+            dataVersions.employeeChanged(1L);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    Cache.ValueWrapper body = employees.get(1L);
+                    reads.add(dataVersions.employeeTag(1L) + " " + (body != null ? body.get() : "miss"));
+                }
+            });
+            employees.evict(1L);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(reads).containsExactly(oldTag + " old body");
+        assertThat(employees.get(1L)).isNull();
+        assertThat(dataVersions.employeeTag(1L)).isNotEqualTo(oldTag);
+    }
+}
@@ -0,0 +1,94 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.EmployeeImportResult;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({EmployeeImportService.class, EmployeeSearchIndex.class, DataVersions.class, OutboxService.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+public class EmployeeImportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    public void setUp() {
+        entityManager.persist(Employee.builder()
+                .name("John Doe").email("john.doe@example.com").department("Engineering").build());
+        entityManager.flush();
+    }
+
+    @Test
+    public void whenImportCsv_thenInsertValidRowsAndReportFailures() throws Exception {
+        // given
+        String csv = "email,name,department,jobTitle\n"
+                + "jane@example.com,Jane Smith,HR,\"Manager, People\"\n"
+                + "john.doe@example.com,John Again,Engineering,Engineer\n"
+                + "not-an-email,Bad Email,Sales,\n"
+                + "\n"
+                + "jane@example.com,Jane Twin,HR,\n"
+                + "ravi@example.com,,Sales,\n";
+
+        // when
+        EmployeeImportResult result = employeeImportService.importEmployees(stream(csv));
+
+        // then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(EmployeeImportResult.RowError::getLine)
+                .containsExactlyInAnyOrder(3L, 4L, 6L, 7L);
+        assertThat(employeeRepository.findByEmail("jane@example.com"))
+                .hasValueSatisfying(e -> assertThat(e.getJobTitle()).isEqualTo("Manager, People"));
+    }
+
+    @Test
+    public void whenImportMoreRowsThanChunkSize_thenImportAllChunks() throws Exception {
+        // given
+        StringBuilder csv = new StringBuilder("name,department,email\n");
+        int rows = EmployeeImportService.CHUNK_SIZE * 2 + 7;
+        for (int i = 0; i < rows; i++) {
+            csv.append("Employee ").append(i).append(",Engineering,employee").append(i).append("@example.com\n");
+        }
+
+        // when
+        EmployeeImportResult result = employeeImportService.importEmployees(stream(csv.toString()));
+
+        // then
+        assertThat(result.getImported()).isEqualTo(rows);
+        assertThat(result.getFailed()).isZero();
+        assertThat(employeeRepository.count()).isEqualTo(rows + 1);
+    }
+
+    @Test
+    public void whenHeaderMissesRequiredColumn_thenThrowException() {
+        assertThrows(InvalidRequestException.class,
+                () -> employeeImportService.importEmployees(stream("name,email\nJane,jane@example.com\n")));
+    }
+
+    private InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,122 @@
+package com.rewardapp.service;
+
+import com.rewardapp.entity.Employee;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeSearchIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeSearchIndex searchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        when(employeeRepository.findAll()).thenReturn(List.of(
+                employee(1L, "John Doe", "john.doe@example.com"),
+                employee(2L, "Johnny Bravo", "jbravo@example.com"),
+                employee(3L, "Jane Smith", "jane.smith@example.com"),
+                employee(4L, "Mary Johnson", "mary.j@example.com")));
+        searchIndex = new EmployeeSearchIndex(employeeRepository);
+        searchIndex.reload();
+    }
+
+    @Test
+    public void whenSearchByPrefix_thenRankTokenPrefixMatchesFirst() {
+        // when
+        List<Long> ids = searchIndex.search("joh", 10);
+
+        // then
+        assertThat(ids).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    public void whenSearchBySubstring_thenMatchInsideTokens() {
+        // when
+        List<Long> ids = searchIndex.search("ohns", 10);
+
+        // then
+        assertThat(ids).containsExactly(4L);
+    }
+
+    @Test
+    public void whenSearchWithTypo_thenStillFindEmployee() {
+        assertThat(searchIndex.search("jhon", 10)).contains(1L);
+        assertThat(searchIndex.search("smtih", 10)).containsExactly(3L);
+    }
+
+    @Test
+    public void whenSearchMultipleTokens_thenRequireEveryToken() {
+        assertThat(searchIndex.search("jane smi", 10)).containsExactly(3L);
+        assertThat(searchIndex.search("john bravo", 10)).containsExactly(2L);
+    }
+
+    @Test
+    public void whenSearchByEmail_thenMatchEmailAddress() {
+        assertThat(searchIndex.search("mary.j@ex", 10)).containsExactly(4L);
+    }
+
+    @Test
+    public void whenSearchWithLimit_thenReturnAtMostLimit() {
+        assertThat(searchIndex.search("j", 2)).hasSize(2);
+        assertThrows(InvalidRequestException.class, () -> searchIndex.search("j", 0));
+    }
+
+    @Test
+    public void whenEmployeeRenamedOrRemoved_thenIndexFollows() {
+        // when
+        searchIndex.index(employee(3L, "Jane Austen", "jane.smith@example.com"));
+        searchIndex.remove(1L);
+
+        // then
+        assertThat(searchIndex.search("austen", 10)).containsExactly(3L);
+        assertThat(searchIndex.search("smith", 10)).containsExactly(3L);
+        assertThat(searchIndex.search("doe", 10)).isEmpty();
+    }
+
+    @Test
+    public void whenCompareWithinOneEdit_thenHandleAllEditKinds() {
+        assertThat(EmployeeSearchIndex.withinOneEdit("john", "jhon")).isTrue();
+        assertThat(EmployeeSearchIndex.withinOneEdit("john", "jon")).isTrue();
+        assertThat(EmployeeSearchIndex.withinOneEdit("john", "johan")).isTrue();
+        assertThat(EmployeeSearchIndex.withinOneEdit("john", "joan")).isTrue();
+        assertThat(EmployeeSearchIndex.withinOneEdit("john", "jane")).isFalse();
+    }
+
+    @Test
+    public void whenEmployeesChangeDuringReload_thenApplyThemToTheLoadedIndex() {
+        // given: the reload's query does not see writes committed while it runs
+        when(employeeRepository.findAll()).thenAnswer(invocation -> {
+            searchIndex.index(employee(5L, "Startup Hire", "startup.hire@example.com"));
+            searchIndex.remove(3L);
+            return List.of(
+                    employee(1L, "John Doe", "john.doe@example.com"),
+                    employee(3L, "Jane Smith", "jane.smith@example.com"));
+        });
+
+        // when
+        searchIndex.reload();
+
+        // then
+        assertThat(searchIndex.search("startup", 10)).containsExactly(5L);
+        assertThat(searchIndex.search("jane", 10)).isEmpty();
+        assertThat(searchIndex.search("john", 10)).containsExactly(1L);
+    }
+
+    private Employee employee(Long id, String name, String email) {
+        return Employee.builder().id(id).name(name).email(email).department("Engineering").build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({EmployeeService.class, RewardSummaryService.class, LeaderboardService.class, SnapshotGate.class,
+        EmployeeSearchIndex.class, DataVersions.class, RewardAnalyticsService.class, OutboxService.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EmployeeServiceQueryCountTest {
+
+    @MockBean
+    private RewardStreamService rewardStreamService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RewardSummaryService rewardSummaryService;
+
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
+    private Statistics statistics;
+
+    private int seeded;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void whenGetAllEmployees_thenStatementCountIsIndependentOfEmployeeCount() {
+        seed(3);
+        long small = countStatements(() -> employeeService.getAllEmployees());
+
+        seed(30);
+        long large = countStatements(() -> employeeService.getAllEmployees());
+
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    public void whenGetEmployeesByDepartment_thenStatementCountIsIndependentOfEmployeeCount() {
+        seed(3);
+        long small = countStatements(() -> employeeService.getEmployeesByDepartment("Engineering"));
+
+        seed(30);
+        long large = countStatements(() -> employeeService.getEmployeesByDepartment("Engineering"));
+
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    public void whenSearchEmployees_thenStatementCountIsIndependentOfEmployeeCount() {
+        seed(3);
+        long small = countStatements(() -> assertThat(employeeService.searchEmployees("Employee", 100)).hasSize(3));
+
+        seed(30);
+        long large = countStatements(() -> assertThat(employeeService.searchEmployees("Employee", 100)).hasSize(33));
+
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    public void whenGetEmployeeById_thenLoadOnlyTheEmployeeAndItsStats() {
+        seed(1);
+        Long id = employeeService.getAllEmployees().get(0).getId();
+
+        long statements = countStatements(() -> assertThat(employeeService.getEmployeeById(id).getRewardCount()).isEqualTo(2));
+
+        assertThat(statements).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenGetAllEmployees_thenAggregatesMatchRewards() {
+        seed(2);
+        entityManager.flush();
+        rewardSummaryService.rebuild();
+
+        List<EmployeeDTO> result = employeeService.getAllEmployees();
+
+        assertThat(result).hasSize(2);
+        assertThat(result).allSatisfy(dto -> {
+            assertThat(dto.getRewardCount()).isEqualTo(2);
+            assertThat(dto.getTotalPoints()).isEqualTo(150);
+        });
+    }
+
+    private long countStatements(Runnable call) {
+        entityManager.flush();
+        rewardSummaryService.rebuild();
+        searchIndex.reload();
+        entityManager.clear();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seed(int count) {
+        for (int i = 0; i < count; i++, seeded++) {
+            Employee employee = entityManager.persist(Employee.builder()
+                    .name("Employee " + seeded)
+                    .email("employee" + seeded + "@example.com")
+                    .department("Engineering")
+                    .jobTitle("Engineer")
+                    .build());
+            entityManager.persist(Reward.builder()
+                    .employee(employee)
+                    .rewardName("Spot Award")
+                    .rewardType("Performance")
+                    .dateAwarded(LocalDate.now())
+                    .points(100)
+                    .build());
+            entityManager.persist(Reward.builder()
+                    .employee(employee)
+                    .rewardName("Team Player")
+                    .rewardType("Teamwork")
+                    .dateAwarded(LocalDate.now())
+                    .points(50)
+                    .build());
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.rewardapp.service;
 
+import com.rewardapp.dto.CursorPage;
 import com.rewardapp.dto.EmployeeDTO;
 import com.rewardapp.entity.Employee;
 import com.rewardapp.exception.DuplicateResourceException;
 import com.rewardapp.exception.ResourceNotFoundException;
 import com.rewardapp.repository.EmployeeRepository;
+import com.rewardapp.repository.EmployeeRewardStats;
+import com.rewardapp.repository.EmployeeRewardSummaryRepository;
 import com.rewardapp.repository.RewardRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +35,30 @@ public class EmployeeServiceTest {
     @Mock
     private RewardRepository rewardRepository;
 
+    @Mock
+    private EmployeeRewardSummaryRepository summaryRepository;
+
+    @Mock
+    private RewardSummaryService rewardSummaryService;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private EmployeeSearchIndex searchIndex;
+
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private RewardAnalyticsService rewardAnalyticsService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private RewardStreamService rewardStreamService;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -58,8 +87,7 @@ public class EmployeeServiceTest {
     public void whenGetAllEmployees_thenReturnDtoList() {
         // given
         when(employeeRepository.findAll()).thenReturn(List.of(employee));
-        when(rewardRepository.countByEmployeeId(1L)).thenReturn(5L);
-        when(rewardRepository.sumPointsByEmployeeId(1L)).thenReturn(200);
+        when(summaryRepository.findAllProjectedBy()).thenReturn(List.of(summary(1L, 5, 200)));
 
         // when
         List<EmployeeDTO> result = employeeService.getAllEmployees();
@@ -71,24 +99,88 @@ public class EmployeeServiceTest {
         assertThat(result.get(0).getTotalPoints()).isEqualTo(200);
     }
 
+    @Test
+    public void whenGetEmployeesByDepartment_thenLoadStatsInOneQuery() {
+        // given
+        when(employeeRepository.findByDepartmentIgnoreCase("engineering")).thenReturn(List.of(employee));
+        when(summaryRepository.findStatsByEmployeeIds(List.of(1L))).thenReturn(List.of());
+
+        // when
+        List<EmployeeDTO> result = employeeService.getEmployeesByDepartment("engineering");
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getRewardCount()).isZero();
+        assertThat(result.get(0).getTotalPoints()).isZero();
+        verify(summaryRepository, times(1)).findStatsByEmployeeIds(any());
+    }
+
+    @Test
+    public void whenSearchEmployees_thenReturnEmployeesInIndexRankOrder() {
+        // given
+        Employee second = Employee.builder().id(2L).name("Johnny Bravo").email("johnny@example.com").department("Sales").build();
+        when(searchIndex.search("john", 10)).thenReturn(List.of(2L, 1L));
+        when(employeeRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(employee, second));
+        when(summaryRepository.findStatsByEmployeeIds(any())).thenReturn(List.of());
+
+        // when
+        List<EmployeeDTO> result = employeeService.searchEmployees("john", 10);
+
+        // then
+        assertThat(result).extracting(EmployeeDTO::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    public void whenCreateEmployee_thenIndexForSearch() {
+        // given
+        when(employeeRepository.existsByEmail(any())).thenReturn(false);
+        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+
+        // when
+        employeeService.createEmployee(employeeDTO);
+
+        // then
+        verify(searchIndex).index(employee);
+    }
+
+    @Test
+    public void whenGetEmployeePage_thenReturnItemsAndNextCursor() {
+        // given
+        Employee second = Employee.builder().id(2L).name("Jane Smith").email("jane@example.com").department("HR").build();
+        when(employeeRepository.findAllByOrderByIdAsc(Limit.of(2))).thenReturn(List.of(employee, second));
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(2))).thenReturn(List.of(second));
+        when(summaryRepository.findStatsByEmployeeIds(any())).thenReturn(List.of());
+
+        // when
+        CursorPage<EmployeeDTO> first = employeeService.getEmployeePage(null, 1);
+        CursorPage<EmployeeDTO> next = employeeService.getEmployeePage(first.getNextCursor(), 1);
+
+        // then
+        assertThat(first.getItems()).extracting(EmployeeDTO::getId).containsExactly(1L);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(next.getItems()).extracting(EmployeeDTO::getId).containsExactly(2L);
+        assertThat(next.isHasMore()).isFalse();
+    }
+
     @Test
     public void whenGetEmployeeById_thenReturnDto() {
         // given
-        when(employeeRepository.findByIdWithRewards(1L)).thenReturn(Optional.of(employee));
-        when(rewardRepository.countByEmployeeId(1L)).thenReturn(5L);
-        when(rewardRepository.sumPointsByEmployeeId(1L)).thenReturn(200);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(summaryRepository.findStatsByEmployeeId(1L)).thenReturn(Optional.of(summary(1L, 5, 200)));
 
         // when
         EmployeeDTO result = employeeService.getEmployeeById(1L);
 
         // then
         assertThat(result.getName()).isEqualTo("John Doe");
+        assertThat(result.getRewardCount()).isEqualTo(5);
+        assertThat(result.getTotalPoints()).isEqualTo(200);
     }
 
     @Test
     public void whenGetEmployeeById_NotFound_thenThrowException() {
         // given
-        when(employeeRepository.findByIdWithRewards(1L)).thenReturn(Optional.empty());
+        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById(1L));
@@ -105,6 +197,21 @@ public class EmployeeServiceTest {
 
         // then
         assertThat(result.getName()).isEqualTo("John Doe");
+        verify(rewardAnalyticsService, never()).departmentChanged(any(), any());
+    }
+
+    @Test
+    public void whenUpdateEmployeeDepartment_thenMoveAnalytics() {
+        // given
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        employeeDTO.setDepartment("Sales");
+
+        // when
+        employeeService.updateEmployee(1L, employeeDTO);
+
+        // then
+        verify(rewardAnalyticsService, times(1)).departmentChanged(1L, "Engineering");
     }
 
     @Test
@@ -138,6 +245,30 @@ public class EmployeeServiceTest {
         employeeService.deleteEmployee(1L);
 
         // then
+        verify(rewardRepository, times(1)).deleteByEmployeeId(1L);
         verify(employeeRepository, times(1)).deleteById(1L);
+        verify(rewardSummaryService, times(1)).deleteForEmployee(1L);
+        verify(rewardAnalyticsService, times(1)).removeEmployee(1L);
+        verify(outboxService, times(1)).recordEmployeeDeleted(1L);
+    }
+
+    private EmployeeRewardStats summary(Long employeeId, long rewardCount, long totalPoints) {
+        return new EmployeeRewardStats() {
+            public Long getEmployeeId() {
+                return employeeId;
+            }
+
+            public long getRewardCount() {
+                return rewardCount;
+            }
+
+            public long getTotalPoints() {
+                return totalPoints;
+            }
+
+            public LocalDate getLastAwardDate() {
+                return null;
+            }
+        };
     }
 }
@@ -0,0 +1,56 @@
+package com.rewardapp.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.entity.OutboxEvent;
+import com.rewardapp.entity.OutboxEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileOutboxSinkTest {
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void whenBatchesArePublished_thenEachEventIsAppendedAsOneJsonLine() throws Exception {
+        // given
+        Path file = dir.resolve("outbox/events.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file);
+
+        // when
+        sink.publish(List.of(event(1L, OutboxEventType.REWARD_ASSIGNED, "{\"points\":50}")));
+        sink.publish(List.of(event(2L, OutboxEventType.REWARD_DELETED, "{\"points\":50}"),
+                event(3L, OutboxEventType.EMPLOYEE_DELETED, "{\"id\":7}")));
+
+        // then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("type").asText()).isEqualTo("REWARD_ASSIGNED");
+        assertThat(first.get("aggregateType").asText()).isEqualTo("Reward");
+        assertThat(first.get("payload").get("points").asInt()).isEqualTo(50);
+        assertThat(objectMapper.readTree(lines.get(2)).get("aggregateType").asText()).isEqualTo("Employee");
+    }
+
+    private static OutboxEvent event(Long id, OutboxEventType type, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType(type.getAggregateType())
+                .aggregateId(7L)
+                .eventType(type)
+                .payload(payload)
+                .createdAt(LocalDateTime.of(2024, 3, 1, 12, 0))
+                .build();
+    }
+}
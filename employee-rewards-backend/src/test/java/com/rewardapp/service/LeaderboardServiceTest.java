@@ -0,0 +1,177 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.LeaderboardEntryDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.repository.EmployeePointsView;
+import com.rewardapp.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LeaderboardServiceTest {
+
+    @Mock
+    private RewardRepository rewardRepository;
+
+    private LeaderboardService leaderboardService;
+
+    private Employee alice;
+    private Employee bob;
+    private Employee carol;
+
+    @BeforeEach
+    public void setUp() {
+        alice = Employee.builder().id(1L).name("Alice").department("Engineering").build();
+        bob = Employee.builder().id(2L).name("Bob").department("Engineering").build();
+        carol = Employee.builder().id(3L).name("Carol").department("Sales").build();
+
+        when(rewardRepository.findPointsPerEmployee()).thenReturn(List.of(
+                view(alice, 300), view(bob, 500), view(carol, 400)));
+        leaderboardService = new LeaderboardService(rewardRepository, new SnapshotGate(() -> { }));
+        leaderboardService.reload();
+    }
+
+    @Test
+    public void whenGetTop_thenReturnRankedByPoints() {
+        // when
+        List<LeaderboardEntryDTO> top = leaderboardService.getTop(null, 2);
+
+        // then
+        assertThat(top).extracting(LeaderboardEntryDTO::getEmployeeName).containsExactly("Bob", "Carol");
+        assertThat(top).extracting(LeaderboardEntryDTO::getRank).containsExactly(1, 2);
+    }
+
+    @Test
+    public void whenGetTopForDepartment_thenOnlyIncludeThatDepartment() {
+        // when
+        List<LeaderboardEntryDTO> top = leaderboardService.getTop("engineering", 10);
+
+        // then
+        assertThat(top).extracting(LeaderboardEntryDTO::getEmployeeName).containsExactly("Bob", "Alice");
+    }
+
+    @Test
+    public void whenPointsChange_thenRankingIsUpdated() {
+        // when
+        leaderboardService.addPoints(alice, 250);
+        leaderboardService.addPoints(bob, -200);
+
+        // then
+        assertThat(leaderboardService.getTop(null, 3))
+                .extracting(LeaderboardEntryDTO::getTotalPoints).containsExactly(550L, 400L, 300L);
+    }
+
+    @Test
+    public void whenEmployeeChangesDepartment_thenMoveBetweenDepartmentBoards() {
+        // given
+        alice.setDepartment("Sales");
+
+        // when
+        leaderboardService.updateEmployee(alice);
+
+        // then
+        assertThat(leaderboardService.getTop("Engineering", 10))
+                .extracting(LeaderboardEntryDTO::getEmployeeName).containsExactly("Bob");
+        assertThat(leaderboardService.getTop("Sales", 10))
+                .extracting(LeaderboardEntryDTO::getEmployeeName).containsExactly("Carol", "Alice");
+    }
+
+    @Test
+    public void whenEmployeeRemoved_thenDropFromLeaderboard() {
+        // when
+        leaderboardService.removeEmployee(2L);
+
+        // then
+        assertThat(leaderboardService.getTop(null, 10))
+                .extracting(LeaderboardEntryDTO::getEmployeeId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    public void whenChangesCommitDuringReload_thenApplyThemToTheLoadedStandings() {
+        // given: the reload's query does not see changes committed while it runs
+        when(rewardRepository.findPointsPerEmployee()).thenAnswer(invocation -> {
+            leaderboardService.addPoints(alice, 400);
+            leaderboardService.removeEmployee(3L);
+            return List.of(view(alice, 300), view(bob, 500), view(carol, 400));
+        });
+
+        // when
+        leaderboardService.reload();
+
+        // then
+        assertThat(leaderboardService.getTop(null, 10))
+                .extracting(LeaderboardEntryDTO::getTotalPoints).containsExactly(700L, 500L);
+        assertThat(leaderboardService.getTop("Sales", 10)).isEmpty();
+    }
+
+    @Test
+    public void whenChangeCommittedBeforeReloadIsDeliveredDuringIt_thenCountItOnce() throws Exception {
+        // given: the reward has committed, so the reload's snapshot counts it, but its change is not delivered yet
+        when(rewardRepository.findPointsPerEmployee()).thenReturn(List.of(
+                view(alice, 700), view(bob, 500), view(carol, 400)));
+        CompletableFuture<Void> reload;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            leaderboardService.addPoints(alice, 400);
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+            // when
+            reload = CompletableFuture.runAsync(leaderboardService::reload);
+            Thread.sleep(200);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        reload.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(leaderboardService.getTop(null, 1))
+                .extracting(LeaderboardEntryDTO::getTotalPoints).containsExactly(700L);
+    }
+
+    @Test
+    public void whenLimitOutOfRange_thenThrowException() {
+        assertThrows(InvalidRequestException.class, () -> leaderboardService.getTop(null, 0));
+        assertThrows(InvalidRequestException.class, () -> leaderboardService.getTop(null, 1000));
+    }
+
+    private EmployeePointsView view(Employee employee, long points) {
+        return new EmployeePointsView() {
+            @Override
+            public Long getEmployeeId() {
+                return employee.getId();
+            }
+
+            @Override
+            public String getEmployeeName() {
+                return employee.getName();
+            }
+
+            @Override
+            public String getDepartment() {
+                return employee.getDepartment();
+            }
+
+            @Override
+            public long getTotalPoints() {
+                return points;
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.rewardapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseSnapshotsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicReference<String> tag = new AtomicReference<>("v1");
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    public void whenTagUnchanged_thenRefreshDoesNotRebuild() {
+        // given
+        ResponseSnapshots snapshots = snapshots(1_000_000);
+
+        // when
+        snapshots.refresh();
+        snapshots.refresh();
+
+        // then
+        assertThat(builds).hasValue(1);
+        assertThat(snapshots.current("/items").etag()).isEqualTo("v1");
+        assertThat(registry.get("rewardapp.snapshots.bytes").gauge().value()).isPositive();
+    }
+
+    @Test
+    public void whenTagChanged_thenSnapshotIsStaleUntilRefreshed() {
+        // given
+        ResponseSnapshots snapshots = snapshots(1_000_000);
+        snapshots.refresh();
+
+        // when
+        tag.set("v2");
+
+        // then
+        assertThat(snapshots.current("/items")).isNull();
+        snapshots.refresh();
+        assertThat(snapshots.current("/items").etag()).isEqualTo("v2");
+        assertThat(builds).hasValue(2);
+    }
+
+    @Test
+    public void whenSnapshotExceedsBudget_thenDropIt() {
+        // given
+        ResponseSnapshots snapshots = snapshots(16);
+
+        // when
+        snapshots.refresh();
+
+        // then
+        assertThat(snapshots.current("/items")).isNull();
+        assertThat(registry.get("rewardapp.snapshots.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenSnapshotWasRejected_thenDoNotRebuildItUntilTagChanges() {
+        // given
+        ResponseSnapshots snapshots = snapshots(16);
+        snapshots.refresh();
+
+        // when
+        snapshots.refresh();
+        snapshots.refresh();
+
+        // then
+        assertThat(builds).hasValue(1);
+        tag.set("v2");
+        snapshots.refresh();
+        assertThat(builds).hasValue(2);
+        assertThat(registry.get("rewardapp.snapshots.rejected").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void whenBodyExceedsBudget_thenStopSerializingEarly() {
+        // given
+        AtomicInteger serialized = new AtomicInteger();
+        ResponseSnapshots.Source source = new ResponseSnapshots.Source("/items", tag::get,
+                () -> Collections.nCopies(100_000, new CountedItem(serialized)));
+        ResponseSnapshots snapshots = new ResponseSnapshots(List.of(source), new ObjectMapper(), 1_000, registry);
+
+        // when
+        snapshots.refresh();
+
+        // then
+        assertThat(snapshots.current("/items")).isNull();
+        // the 8 KB Jackson buffer holds a few hundred items before the budget check sees them
+        assertThat(serialized.get()).isLessThan(1_000);
+    }
+
+    private ResponseSnapshots snapshots(long maxBytes) {
+        ResponseSnapshots.Source source = new ResponseSnapshots.Source("/items", tag::get, () -> {
+            builds.incrementAndGet();
+            return Map.of("items", List.of("a", "b", "c"));
+        });
+        return new ResponseSnapshots(List.of(source), new ObjectMapper(), maxBytes, registry);
+    }
+
+    public static class CountedItem {
+
+        private final AtomicInteger serialized;
+
+        CountedItem(AtomicInteger serialized) {
+            this.serialized = serialized;
+        }
+
+        public String getName() {
+            serialized.incrementAndGet();
+            return "item";
+        }
+    }
+}
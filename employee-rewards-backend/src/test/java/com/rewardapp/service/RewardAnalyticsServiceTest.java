@@ -0,0 +1,232 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.AnalyticsCellDTO;
+import com.rewardapp.dto.AnalyticsReport;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.exception.InvalidRequestException;
+import com.rewardapp.repository.RewardAggregateView;
+import com.rewardapp.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RewardAnalyticsServiceTest {
+
+    @Mock
+    private RewardRepository rewardRepository;
+
+    private RewardAnalyticsService analyticsService;
+
+    private Employee alice;
+
+    @BeforeEach
+    public void setUp() {
+        alice = Employee.builder().id(1L).name("Alice").department("Engineering").build();
+
+        when(rewardRepository.streamDailyAggregates()).thenReturn(Stream.of(
+                view("Engineering", "Performance", LocalDate.of(2024, 1, 10), 100, 1),
+                view("Engineering", "Performance", LocalDate.of(2024, 1, 20), 50, 2),
+                view("Engineering", "Teamwork", LocalDate.of(2024, 2, 5), 30, 1),
+                view("Sales", "Performance", LocalDate.of(2024, 2, 7), 70, 1),
+                view("Sales", null, LocalDate.of(2024, 3, 1), 5, 1)));
+        analyticsService = new RewardAnalyticsService(rewardRepository, new SnapshotGate(() -> { }));
+        analyticsService.reload();
+    }
+
+    @Test
+    public void whenGroupByAllDimensions_thenFoldDaysIntoMonths() {
+        // when
+        AnalyticsReport report = analyticsService.query(null, null, null, null, null);
+
+        // then
+        assertThat(report.getGroupBy()).containsExactly("department", "rewardType", "month");
+        assertThat(report.getTotalPoints()).isEqualTo(255);
+        assertThat(report.getTotalRewards()).isEqualTo(6);
+        assertThat(report.getCells())
+                .extracting(AnalyticsCellDTO::getMonth, AnalyticsCellDTO::getDepartment,
+                        AnalyticsCellDTO::getRewardType, AnalyticsCellDTO::getPoints)
+                .containsExactly(
+                        tuple("2024-01", "Engineering", "Performance", 150L),
+                        tuple("2024-02", "Engineering", "Teamwork", 30L),
+                        tuple("2024-02", "Sales", "Performance", 70L),
+                        tuple("2024-03", "Sales", RewardAnalyticsService.UNSPECIFIED, 5L));
+    }
+
+    @Test
+    public void whenGroupByDepartmentOnly_thenRollUpTypesAndMonths() {
+        // when
+        AnalyticsReport report = analyticsService.query(null, null, null, null, List.of("department"));
+
+        // then
+        assertThat(report.getCells())
+                .extracting(AnalyticsCellDTO::getDepartment, AnalyticsCellDTO::getMonth, AnalyticsCellDTO::getPoints)
+                .containsExactly(tuple("Engineering", null, 180L), tuple("Sales", null, 75L));
+    }
+
+    @Test
+    public void whenSlicedByTypeAndMonthRange_thenOnlyMatchingCellsCount() {
+        // when
+        AnalyticsReport report = analyticsService.query(null, "performance", "2024-02", "2024-03", List.of());
+
+        // then
+        assertThat(report.getTotalPoints()).isEqualTo(70);
+        assertThat(report.getCells()).singleElement()
+                .extracting(AnalyticsCellDTO::getDepartment, AnalyticsCellDTO::getPoints)
+                .containsExactly(null, 70L);
+    }
+
+    @Test
+    public void whenRewardsRecordedAndRemoved_thenCellsFollow() {
+        // given
+        Reward reward = Reward.builder().employee(alice).rewardType("Teamwork")
+                .dateAwarded(LocalDate.of(2024, 2, 28)).points(20).build();
+
+        // when
+        analyticsService.recordReward(reward);
+        analyticsService.recordRewards(List.of(reward, reward));
+        analyticsService.removeReward(reward);
+
+        // then
+        AnalyticsReport report = analyticsService.query("Engineering", "Teamwork", null, null, List.of("month"));
+        assertThat(report.getCells()).singleElement()
+                .extracting(AnalyticsCellDTO::getPoints, AnalyticsCellDTO::getRewards)
+                .containsExactly(70L, 3L);
+    }
+
+    @Test
+    public void whenDepartmentChanged_thenMoveEmployeeContributions() {
+        // given
+        when(rewardRepository.findDailyAggregatesByEmployeeId(1L)).thenReturn(List.of(
+                view("Sales", "Performance", LocalDate.of(2024, 1, 10), 100, 1)));
+
+        // when
+        analyticsService.departmentChanged(1L, "Engineering");
+
+        // then
+        AnalyticsReport report = analyticsService.query(null, "Performance", "2024-01", "2024-01", List.of("department"));
+        assertThat(report.getCells())
+                .extracting(AnalyticsCellDTO::getDepartment, AnalyticsCellDTO::getPoints)
+                .containsExactly(tuple("Engineering", 50L), tuple("Sales", 100L));
+    }
+
+    @Test
+    public void whenEmployeeRemoved_thenSubtractTheirRewards() {
+        // given
+        when(rewardRepository.findDailyAggregatesByEmployeeId(1L)).thenReturn(List.of(
+                view("Engineering", "Teamwork", LocalDate.of(2024, 2, 5), 30, 1)));
+
+        // when
+        analyticsService.removeEmployee(1L);
+
+        // then
+        assertThat(analyticsService.query(null, "Teamwork", null, null, List.of()).getCells()).isEmpty();
+    }
+
+    @Test
+    public void whenRewardsCommitDuringReload_thenApplyThemToTheLoadedCube() {
+        // given: the reload's rows do not include rewards committed while it streams them
+        Reward reward = Reward.builder().employee(alice).rewardType("Teamwork")
+                .dateAwarded(LocalDate.of(2024, 2, 28)).points(20).build();
+        when(rewardRepository.streamDailyAggregates()).thenAnswer(invocation -> {
+            analyticsService.recordReward(reward);
+            return Stream.of(view("Engineering", "Teamwork", LocalDate.of(2024, 2, 5), 30, 1));
+        });
+
+        // when
+        analyticsService.reload();
+
+        // then
+        AnalyticsReport report = analyticsService.query("Engineering", "Teamwork", null, null, List.of("month"));
+        assertThat(report.getCells()).singleElement()
+                .extracting(AnalyticsCellDTO::getPoints, AnalyticsCellDTO::getRewards)
+                .containsExactly(50L, 2L);
+    }
+
+    @Test
+    public void whenRewardCommittedBeforeReloadIsDeliveredDuringIt_thenCountItOnce() throws Exception {
+        // given: the reward has committed, so the reload's rows include it, but its change is not delivered yet
+        Reward reward = Reward.builder().employee(alice).rewardType("Teamwork")
+                .dateAwarded(LocalDate.of(2024, 2, 28)).points(20).build();
+        when(rewardRepository.streamDailyAggregates()).thenAnswer(invocation -> Stream.of(
+                view("Engineering", "Teamwork", LocalDate.of(2024, 2, 5), 30, 1),
+                view("Engineering", "Teamwork", LocalDate.of(2024, 2, 28), 20, 1)));
+        CompletableFuture<Void> reload;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            analyticsService.recordReward(reward);
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+            // when
+            reload = CompletableFuture.runAsync(analyticsService::reload);
+            Thread.sleep(200);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        reload.get(10, TimeUnit.SECONDS);
+
+        // then
+        AnalyticsReport report = analyticsService.query("Engineering", "Teamwork", null, null, List.of("month"));
+        assertThat(report.getCells()).singleElement()
+                .extracting(AnalyticsCellDTO::getPoints, AnalyticsCellDTO::getRewards)
+                .containsExactly(50L, 2L);
+    }
+
+    @Test
+    public void whenQueryInvalid_thenThrowException() {
+        assertThrows(InvalidRequestException.class,
+                () -> analyticsService.query(null, null, null, null, List.of("team")));
+        assertThrows(InvalidRequestException.class,
+                () -> analyticsService.query(null, null, "2024-13", null, null));
+        assertThrows(InvalidRequestException.class,
+                () -> analyticsService.query(null, null, "2024-05", "2024-01", null));
+    }
+
+    private RewardAggregateView view(String department, String rewardType, LocalDate date, long points, long count) {
+        return new RewardAggregateView() {
+            @Override
+            public String getDepartment() {
+                return department;
+            }
+
+            @Override
+            public String getRewardType() {
+                return rewardType;
+            }
+
+            @Override
+            public LocalDate getDateAwarded() {
+                return date;
+            }
+
+            @Override
+            public long getTotalPoints() {
+                return points;
+            }
+
+            @Override
+            public long getRewardCount() {
+                return count;
+            }
+        };
+    }
+}
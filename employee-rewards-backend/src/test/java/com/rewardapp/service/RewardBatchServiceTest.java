@@ -0,0 +1,140 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.RewardBatchResult;
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.exception.ResourceNotFoundException;
+import com.rewardapp.repository.EmployeeRewardSummaryRepository;
+import com.rewardapp.repository.RewardRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({RewardBatchService.class, RewardSummaryService.class, LeaderboardService.class, SnapshotGate.class,
+        DataVersions.class, RewardAnalyticsService.class, OutboxService.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class RewardBatchServiceTest {
+
+    @MockBean
+    private RewardStreamService rewardStreamService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RewardBatchService rewardBatchService;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private EmployeeRewardSummaryRepository summaryRepository;
+
+    private Employee alice;
+    private Employee bob;
+
+    @BeforeEach
+    public void setUp() {
+        alice = entityManager.persist(Employee.builder()
+                .name("Alice Wonderland").email("alice@example.com").department("Marketing").build());
+        bob = entityManager.persist(Employee.builder()
+                .name("Bob Builder").email("bob@example.com").department("Engineering").build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void whenAssignRewards_thenInsertAllInJdbcBatches() {
+        // given
+        List<RewardDTO> dtos = rewards(120);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        RewardBatchResult result = rewardBatchService.assignRewards(dtos);
+
+        // then
+        assertThat(result.getCreated()).isEqualTo(120);
+        assertThat(result.getIds()).hasSize(120).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(rewardRepository.countByEmployeeId(alice.getId())).isEqualTo(60);
+        assertThat(rewardRepository.countByEmployeeId(bob.getId())).isEqualTo(60);
+        // one employee IN-query, a few sequence calls, one prepared insert per 50-row batch
+        // and a summary upsert per distinct employee
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(summaryRepository.findById(alice.getId()))
+                .hasValueSatisfying(summary -> assertThat(summary.getTotalPoints()).isEqualTo(60 * 25));
+    }
+
+    @Test
+    public void whenAssignRewards_UnknownEmployee_thenThrowException() {
+        // given
+        List<RewardDTO> dtos = rewards(2);
+        dtos.get(1).setEmployeeId(-1L);
+
+        // when & then
+        assertThrows(ResourceNotFoundException.class, () -> rewardBatchService.assignRewards(dtos));
+        assertThat(rewardRepository.count()).isZero();
+    }
+
+    // More distinct employees than one IN-list chunk holds, so their lookup spans two queries
+    @Test
+    public void whenAssignRewards_ToMoreEmployeesThanOneChunk_thenLookUpAllOfThem() {
+        // given
+        List<RewardDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 1_001; i++) {
+            Employee employee = entityManager.persist(Employee.builder()
+                    .name("Chunked Employee " + i).email("chunked." + i + "@example.com").department("Sales").build());
+            dtos.add(RewardDTO.builder()
+                    .employeeId(employee.getId())
+                    .rewardName("Company Award")
+                    .rewardType("Performance")
+                    .dateAwarded(LocalDate.of(2024, 3, 31))
+                    .points(10)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        RewardBatchResult result = rewardBatchService.assignRewards(dtos);
+
+        // then
+        assertThat(result.getCreated()).isEqualTo(1_001);
+        assertThat(summaryRepository.findStatsByEmployeeIds(dtos.stream().map(RewardDTO::getEmployeeId).toList()))
+                .hasSize(1_001)
+                .allSatisfy(summary -> assertThat(summary.getTotalPoints()).isEqualTo(10));
+    }
+
+    private List<RewardDTO> rewards(int count) {
+        List<RewardDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dtos.add(RewardDTO.builder()
+                    .employeeId(i % 2 == 0 ? alice.getId() : bob.getId())
+                    .rewardName("Quarterly Award " + i)
+                    .rewardType("Performance")
+                    .dateAwarded(LocalDate.of(2024, 3, 31))
+                    .points(25)
+                    .build());
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,83 @@
+package com.rewardapp.service;
+
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.Reward;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(RewardExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class RewardExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RewardExportService rewardExportService;
+
+    @BeforeEach
+    public void setUp() {
+        Employee employee = entityManager.persist(Employee.builder()
+                .name("Alice Wonderland")
+                .email("alice@example.com")
+                .department("Marketing")
+                .jobTitle("Content Creator")
+                .build());
+        for (int i = 0; i < RewardExportService.DETACH_INTERVAL + 5; i++) {
+            entityManager.persist(Reward.builder()
+                    .employee(employee)
+                    .rewardName("Award " + i)
+                    .dateAwarded(LocalDate.of(2024, 1, 15))
+                    .rewardType("Performance")
+                    .points(10)
+                    .description(i == 0 ? "Said \"thanks\", twice" : null)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void whenExportNdjson_thenWriteOneJsonObjectPerLine() throws Exception {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = rewardExportService.exportRewards(ExportFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(RewardExportService.DETACH_INTERVAL + 5);
+        assertThat(lines).hasSize(RewardExportService.DETACH_INTERVAL + 5);
+        assertThat(lines[0]).startsWith("{\"id\":")
+                .contains("\"employeeName\":\"Alice Wonderland\"")
+                .contains("\"dateAwarded\":\"2024-01-15\"")
+                .contains("\"description\":\"Said \\\"thanks\\\", twice\"");
+        assertThat(lines[lines.length - 1]).contains("\"rewardName\":\"Award " + (RewardExportService.DETACH_INTERVAL + 4) + "\"");
+    }
+
+    @Test
+    public void whenExportCsv_thenWriteHeaderAndEscapedRows() throws Exception {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = rewardExportService.exportRewards(ExportFormat.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(RewardExportService.DETACH_INTERVAL + 5);
+        assertThat(lines).hasSize(RewardExportService.DETACH_INTERVAL + 6);
+        assertThat(lines[0]).startsWith("id,employeeId,employeeName");
+        assertThat(lines[1]).endsWith(",Alice Wonderland,Marketing,Award 0,2024-01-15,Performance,10,\"Said \"\"thanks\"\", twice\"");
+    }
+}
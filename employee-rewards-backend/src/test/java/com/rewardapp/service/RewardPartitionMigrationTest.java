@@ -0,0 +1,102 @@
+package com.rewardapp.service;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// The PostgreSQL-only migrations (V5 partitions rewards by month) and RewardPartitionService against a real
+// server; H2 runs neither
+@Testcontainers(disabledWithoutDocker = true)
+class RewardPartitionMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA public CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA public");
+    }
+
+    @Test
+    void whenRewardsExistBeforePartitioning_thenEachLandsInItsMonth() {
+        // given
+        migrate("4");
+        jdbcTemplate.update("INSERT INTO employees (id, name, department, email) "
+                + "VALUES (7, 'Partitioned Employee', 'Finance', 'partitioned@example.com')");
+        jdbcTemplate.update("INSERT INTO rewards (id, employee_id, reward_name, date_awarded, reward_type, points) "
+                + "VALUES (120, 7, 'Old Award', DATE '2023-03-01', 'Teamwork', 30), (121, 7, 'Recent Award', ?, 'Innovation', 20)",
+                LocalDate.now());
+
+        // when
+        migrate(null);
+
+        // then
+        assertThat(count("rewards")).isEqualTo(2);
+        assertThat(count("rewards_default")).isZero();
+        assertThat(count("rewards_p2023_03")).isEqualTo(1);
+        assertThat(count(RewardPartitionService.name(YearMonth.now()))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT reward_type_key FROM rewards WHERE id = 120", String.class))
+                .isEqualTo("TEAMWORK");
+    }
+
+    @Test
+    void whenDefaultHoldsRowsOfAMissingMonth_thenCreateItsPartitionAndMoveThem() {
+        // given
+        migrate(null);
+        YearMonth farAhead = YearMonth.now().plusMonths(12);
+        jdbcTemplate.update("INSERT INTO employees (id, name, department, email) "
+                + "VALUES (7, 'Partitioned Employee', 'Finance', 'partitioned@example.com')");
+        jdbcTemplate.update("INSERT INTO rewards (id, employee_id, reward_name, date_awarded, points) "
+                + "VALUES (130, 7, 'Scheduled Award', ?, 40)", farAhead.atDay(15));
+        assertThat(count("rewards_default")).isEqualTo(1);
+
+        // when
+        service().maintain(YearMonth.now());
+
+        // then
+        assertThat(count(RewardPartitionService.name(farAhead))).isEqualTo(1);
+        assertThat(count("rewards_default")).isZero();
+        assertThat(count("rewards")).isEqualTo(1);
+        // the default partition is attached again and still catches months without a partition
+        jdbcTemplate.update("INSERT INTO rewards (id, employee_id, reward_name, date_awarded, points) "
+                + "VALUES (131, 7, 'Later Award', ?, 10)", farAhead.plusMonths(12).atDay(1));
+        assertThat(count("rewards_default")).isEqualTo(1);
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/postgresql")
+                .target(target == null ? "latest" : target)
+                .load()
+                .migrate();
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private RewardPartitionService service() {
+        return new RewardPartitionService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                mock(RewardSummaryService.class), mock(LeaderboardService.class),
+                mock(RewardAnalyticsService.class), 3, 0, false);
+    }
+}
@@ -0,0 +1,149 @@
+package com.rewardapp.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.AdditionalMatchers.and;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RewardPartitionServiceTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2024, 6);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RewardSummaryService rewardSummaryService;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private RewardAnalyticsService rewardAnalyticsService;
+
+    @Test
+    public void whenUpcomingMonthsMissing_thenCreatePartitions() {
+        // given
+        partitions("rewards_default", "rewards_p2024_05", "rewards_p2024_06", "rewards_p2024_07");
+
+        // when
+        service(2, 0, false).maintain(CURRENT);
+
+        // then
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS rewards_p2024_08 PARTITION OF rewards "
+                + "FOR VALUES FROM ('2024-08-01') TO ('2024-09-01')");
+        verify(jdbcTemplate, never()).execute(contains("DETACH"));
+        verifyNoInteractions(rewardSummaryService);
+    }
+
+    @Test
+    public void whenPartitionCannotBeCreated_thenKeepGoing() {
+        // given
+        partitions("rewards_default");
+        doThrow(new DataIntegrityViolationException("default partition contains rows"))
+                .when(jdbcTemplate).execute(contains("rewards_p2024_06"));
+
+        // when
+        service(1, 0, false).maintain(CURRENT);
+
+        // then
+        verify(jdbcTemplate).execute(contains("rewards_p2024_07 PARTITION OF rewards"));
+    }
+
+    @Test
+    public void whenDefaultHoldsRowsOfAMonth_thenMoveThemIntoItsNewPartition() {
+        // given
+        partitions("rewards_default", "rewards_p2024_07");
+        monthsInDefault("2024_06", "2025_02");
+
+        // when
+        service(1, 0, false).maintain(CURRENT);
+
+        // then
+        InOrder inOrder = inOrder(jdbcTemplate, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE rewards DETACH PARTITION rewards_default");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS rewards_p2024_06 PARTITION OF rewards "
+                + "FOR VALUES FROM ('2024-06-01') TO ('2024-07-01')");
+        inOrder.verify(jdbcTemplate).update(and(startsWith("WITH moved AS (DELETE FROM rewards_default "
+                + "WHERE date_awarded >= '2024-06-01' AND date_awarded < '2024-07-01'"), contains("INSERT INTO rewards")));
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE rewards ATTACH PARTITION rewards_default DEFAULT");
+        inOrder.verify(transactionManager).commit(any());
+        verify(jdbcTemplate).update(contains("date_awarded >= '2025-02-01' AND date_awarded < '2025-03-01'"));
+    }
+
+    @Test
+    public void whenDefaultHoldsRowsOfAnExpiredMonth_thenLeaveThemThere() {
+        // given
+        partitions("rewards_default", "rewards_p2024_04", "rewards_p2024_05", "rewards_p2024_06");
+        monthsInDefault("2023_01");
+
+        // when
+        service(0, 2, false).maintain(CURRENT);
+
+        // then
+        verify(jdbcTemplate, never()).execute(contains("rewards_p2023_01"));
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+
+    @Test
+    public void whenMonthsExpire_thenDetachInsteadOfDelete() {
+        // given
+        partitions("rewards_default", "rewards_p2024_01", "rewards_p2024_02", "rewards_p2024_03",
+                "rewards_p2024_04", "rewards_p2024_05", "rewards_p2024_06");
+
+        // when
+        service(0, 3, false).maintain(CURRENT);
+
+        // then
+        verify(jdbcTemplate).execute("ALTER TABLE rewards DETACH PARTITION rewards_p2024_01");
+        verify(jdbcTemplate).execute("ALTER TABLE rewards DETACH PARTITION rewards_p2024_02");
+        verify(jdbcTemplate, never()).execute(contains("rewards_p2024_03"));
+        verify(jdbcTemplate, never()).execute(startsWith("DROP"));
+        verify(jdbcTemplate, never()).execute(contains("DELETE"));
+        verify(rewardSummaryService).rebuild();
+        verify(leaderboardService).reload();
+        verify(rewardAnalyticsService).reload();
+    }
+
+    @Test
+    public void whenDropDetachedEnabled_thenDropExpiredPartitions() {
+        // given
+        partitions("rewards_p2023_12", "rewards_p2024_06");
+
+        // when
+        service(0, 1, true).maintain(CURRENT);
+
+        // then
+        verify(jdbcTemplate).execute("ALTER TABLE rewards DETACH PARTITION rewards_p2023_12");
+        verify(jdbcTemplate).execute("DROP TABLE rewards_p2023_12");
+    }
+
+    private void partitions(String... names) {
+        when(jdbcTemplate.queryForList(RewardPartitionService.LIST_PARTITIONS, String.class)).thenReturn(List.of(names));
+    }
+
+    private void monthsInDefault(String... months) {
+        when(jdbcTemplate.queryForList(RewardPartitionService.LIST_DEFAULT_MONTHS, String.class))
+                .thenReturn(List.of(months));
+    }
+
+    private RewardPartitionService service(int monthsAhead, int retentionMonths, boolean dropDetached) {
+        return new RewardPartitionService(jdbcTemplate, transactionManager, rewardSummaryService,
+                leaderboardService, rewardAnalyticsService, monthsAhead, retentionMonths, dropDetached);
+    }
+}
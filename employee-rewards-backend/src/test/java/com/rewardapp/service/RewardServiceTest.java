@@ -1,8 +1,10 @@
 package com.rewardapp.service;
 
+import com.rewardapp.dto.CursorPage;
 import com.rewardapp.dto.RewardDTO;
 import com.rewardapp.entity.Employee;
 import com.rewardapp.entity.Reward;
+import com.rewardapp.exception.InvalidRequestException;
 import com.rewardapp.exception.ResourceNotFoundException;
 import com.rewardapp.repository.EmployeeRepository;
 import com.rewardapp.repository.RewardRepository;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -31,6 +34,24 @@ public class RewardServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private RewardSummaryService rewardSummaryService;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private RewardAnalyticsService rewardAnalyticsService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private RewardStreamService rewardStreamService;
+
     @InjectMocks
     private RewardService rewardService;
 
@@ -81,6 +102,36 @@ public class RewardServiceTest {
         assertThat(result.get(0).getRewardName()).isEqualTo("Employee of the Month");
     }
 
+    @Test
+    public void whenGetRewardPage_thenReturnItemsAndNextCursor() {
+        // given
+        Reward older = Reward.builder()
+                .id(2L)
+                .employee(employee)
+                .rewardName("Team Player")
+                .dateAwarded(LocalDate.now().minusDays(1))
+                .points(50)
+                .build();
+        when(rewardRepository.findFirstPageWithEmployee(Limit.of(2))).thenReturn(List.of(reward, older));
+        when(rewardRepository.findPageWithEmployeeAfter(reward.getDateAwarded(), 1L, Limit.of(2))).thenReturn(List.of(older));
+
+        // when
+        CursorPage<RewardDTO> first = rewardService.getRewardPage(null, 1);
+        CursorPage<RewardDTO> second = rewardService.getRewardPage(first.getNextCursor(), 1);
+
+        // then
+        assertThat(first.getItems()).extracting(RewardDTO::getId).containsExactly(1L);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getItems()).extracting(RewardDTO::getId).containsExactly(2L);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void whenGetRewardPage_InvalidCursor_thenThrowException() {
+        assertThrows(InvalidRequestException.class, () -> rewardService.getRewardPage("not-a-cursor", 10));
+        assertThrows(InvalidRequestException.class, () -> rewardService.getRewardPage(null, 10_000));
+    }
+
     @Test
     public void whenGetRewardById_thenReturnDto() {
         // given
@@ -106,6 +157,30 @@ public class RewardServiceTest {
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    public void whenGetRewardsAwardedBetween_thenQueryTheDateRange() {
+        // given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 3, 31);
+        when(rewardRepository.findByDateAwardedBetweenWithEmployee(from, to)).thenReturn(List.of(reward));
+        when(rewardRepository.findByRewardTypeIgnoreCaseAndDateAwardedBetweenWithEmployee("Performance", from, to))
+                .thenReturn(List.of());
+
+        // when
+        List<RewardDTO> all = rewardService.getRewardsAwardedBetween(from, to, null);
+        List<RewardDTO> performance = rewardService.getRewardsAwardedBetween(from, to, " Performance ");
+
+        // then
+        assertThat(all).hasSize(1);
+        assertThat(performance).isEmpty();
+    }
+
+    @Test
+    public void whenGetRewardsAwardedBetween_InvertedRange_thenThrowException() {
+        assertThrows(InvalidRequestException.class, () -> rewardService.getRewardsAwardedBetween(
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 1), null));
+    }
+
     @Test
     public void whenAssignReward_thenReturnDto() {
         // given
@@ -117,17 +192,42 @@ public class RewardServiceTest {
 
         // then
         assertThat(result.getPoints()).isEqualTo(100);
+        verify(rewardSummaryService).recordAward(1L, 100, reward.getDateAwarded());
+        verify(leaderboardService).addPoints(employee, 100);
+        verify(rewardStreamService).rewardAssigned(result);
+    }
+
+    @Test
+    public void whenUpdateRewardReassignsEmployee_thenMoveSummaryTotals() {
+        // given
+        Employee other = Employee.builder().id(2L).name("Jane Smith").email("jane@example.com").department("HR").build();
+        rewardDTO.setEmployeeId(2L);
+        rewardDTO.setPoints(80);
+        when(rewardRepository.findById(1L)).thenReturn(Optional.of(reward));
+        when(employeeRepository.findById(2L)).thenReturn(Optional.of(other));
+        when(rewardRepository.save(any(Reward.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        RewardDTO result = rewardService.updateReward(1L, rewardDTO);
+
+        // then
+        assertThat(result.getEmployeeId()).isEqualTo(2L);
+        verify(rewardSummaryService).removeAward(1L, 100);
+        verify(rewardSummaryService).recordAward(2L, 80, rewardDTO.getDateAwarded());
+        verify(leaderboardService).addPoints(employee, -100);
+        verify(leaderboardService).addPoints(other, 80);
     }
 
     @Test
     public void whenDeleteReward_thenExecuteSuccessfully() {
         // given
-        when(rewardRepository.existsById(1L)).thenReturn(true);
+        when(rewardRepository.findById(1L)).thenReturn(Optional.of(reward));
 
         // when
         rewardService.deleteReward(1L);
 
         // then
-        verify(rewardRepository, times(1)).deleteById(1L);
+        verify(rewardRepository, times(1)).delete(reward);
+        verify(rewardSummaryService, times(1)).removeAward(1L, 100);
     }
 }
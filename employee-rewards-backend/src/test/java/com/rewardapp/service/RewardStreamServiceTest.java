@@ -0,0 +1,374 @@
+package com.rewardapp.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.dto.RewardDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Subscribes over real HTTP; a queue capacity of 4 makes the slow-consumer paths reachable through a resume
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "rewards.stream.queue-capacity=4",
+        "rewards.stream.heartbeat-ms=3600000",
+        "spring.datasource.url=jdbc:h2:mem:reward-stream;DB_CLOSE_DELAY=-1"})
+@ActiveProfiles("test")
+class RewardStreamServiceTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    private EmployeeDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Stream Tester")
+                .email("stream.tester." + System.nanoTime() + "@example.com")
+                .department("QA")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptions.forEach(Subscription::close);
+    }
+
+    // Each change is awaited before the next; changes queued together would coalesce
+    @Test
+    void whenRewardChanges_thenSubscribersReceiveEachChange() throws Exception {
+        // given
+        Subscription subscription = subscribe(null);
+
+        // when
+        RewardDTO assigned = rewardService.assignReward(reward(50));
+        Event first = subscription.next();
+        rewardService.updateReward(assigned.getId(), reward(70));
+        Event second = subscription.next();
+        rewardService.deleteReward(assigned.getId());
+        Event third = subscription.next();
+
+        // then
+        assertThat(List.of(first.name(), second.name(), third.name()))
+                .containsExactly("assigned", "updated", "deleted");
+        assertThat(sequenceOf(second.id())).isGreaterThan(sequenceOf(first.id()));
+        JsonNode updated = objectMapper.readTree(second.data());
+        assertThat(updated.get("id").asLong()).isEqualTo(assigned.getId());
+        assertThat(updated.get("points").asInt()).isEqualTo(70);
+        assertThat(updated.get("employeeName").asText()).isEqualTo("Stream Tester");
+    }
+
+    @Test
+    void whenReconnectingWithLastEventId_thenMissedEventsAreReplayedInOrder() throws Exception {
+        // given
+        Subscription live = subscribe(null);
+        RewardDTO first = rewardService.assignReward(reward(10));
+        String resumeAfter = live.next().id();
+        live.close();
+        RewardDTO second = rewardService.assignReward(reward(20));
+        RewardDTO third = rewardService.assignReward(reward(30));
+
+        // when
+        Subscription resumed = subscribe(resumeAfter);
+
+        // then
+        assertThat(idOf(resumed.next())).isEqualTo(second.getId());
+        assertThat(idOf(resumed.next())).isEqualTo(third.getId());
+        assertThat(first.getId()).isLessThan(second.getId());
+    }
+
+    @Test
+    void whenMissedChangesTouchOneReward_thenTheyCoalesceIntoItsLatestState() throws Exception {
+        // given
+        Subscription live = subscribe(null);
+        RewardDTO assigned = rewardService.assignReward(reward(10));
+        String resumeAfter = live.next().id();
+        live.close();
+        for (int points = 11; points <= 16; points++) {
+            rewardService.updateReward(assigned.getId(), reward(points));
+        }
+        RewardDTO marker = rewardService.assignReward(reward(1));
+
+        // when
+        Subscription resumed = subscribe(resumeAfter);
+
+        // then
+        Event latest = resumed.next();
+        assertThat(latest.name()).isEqualTo("updated");
+        assertThat(objectMapper.readTree(latest.data()).get("points").asInt()).isEqualTo(16);
+        assertThat(idOf(resumed.next())).isEqualTo(marker.getId());
+    }
+
+    @Test
+    void whenMissedMoreThanTheQueueHolds_thenSubscriberIsReset() throws Exception {
+        // given
+        Subscription live = subscribe(null);
+        rewardService.assignReward(reward(10));
+        String resumeAfter = live.next().id();
+        live.close();
+        for (int i = 0; i < 6; i++) {
+            rewardService.assignReward(reward(i));
+        }
+
+        // when
+        Subscription resumed = subscribe(resumeAfter);
+
+        // then
+        Event reset = resumed.next();
+        assertThat(reset.name()).isEqualTo(RewardStreamService.RESET);
+        assertThat(sequenceOf(reset.id())).isEqualTo(sequenceOf(resumeAfter) + 6);
+    }
+
+    @Test
+    void whenLastEventIdWasNotIssuedByThisInstance_thenSubscriberIsReset() throws Exception {
+        // when
+        Subscription resumed = subscribe("999999999");
+
+        // then
+        assertThat(resumed.next().name()).isEqualTo(RewardStreamService.RESET);
+    }
+
+    // Standalone instance: emitters whose send never returns stand in for clients with a full TCP window
+    @Test
+    void whenSubscribersStopReading_thenOthersStillReceiveAndStalledOnesAreEvicted() throws Exception {
+        // given
+        RewardStreamService service = standalone(Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        List<StalledEmitter> stalled = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                StalledEmitter emitter = new StalledEmitter(release);
+                stalled.add(emitter);
+                service.subscribe(null, emitter);
+            }
+            RecordingEmitter healthy = new RecordingEmitter();
+            service.subscribe(null, healthy);
+
+            // when
+            service.rewardAssigned(RewardDTO.builder().id(77L).rewardName("Unblocked").points(5).build());
+
+            // then
+            assertThat(healthy.nextEventContaining("assigned")).contains("Unblocked");
+            for (StalledEmitter emitter : stalled) {
+                assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            Thread.sleep(300);
+            service.evictStalled();
+            assertThat(service.subscriberCount()).isEqualTo(1);
+            assertThat(stalled).allMatch(emitter -> emitter.failed);
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    // The new run's counter passes the stale id, which must still not be read as one of its own
+    @Test
+    void whenLastEventIdWasIssuedBeforeARestart_thenSubscriberIsReset() throws Exception {
+        // given
+        RewardStreamService beforeRestart = standalone(Duration.ofSeconds(10));
+        RewardStreamService afterRestart = standalone(Duration.ofSeconds(10));
+        try {
+            RecordingEmitter previous = new RecordingEmitter();
+            beforeRestart.subscribe(null, previous);
+            beforeRestart.rewardAssigned(RewardDTO.builder().id(1L).rewardName("Before").points(5).build());
+            String staleId = previous.nextEventContaining("Before").lines()
+                    .filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+            for (long id = 2; id <= 4; id++) {
+                afterRestart.rewardAssigned(RewardDTO.builder().id(id).rewardName("After").points(5).build());
+            }
+
+            // when
+            RecordingEmitter resumed = new RecordingEmitter();
+            afterRestart.subscribe(staleId, resumed);
+
+            // then
+            assertThat(resumed.nextEventContaining("event:")).contains("event:" + RewardStreamService.RESET)
+                    .doesNotContain("After");
+        } finally {
+            beforeRestart.shutdown();
+            afterRestart.shutdown();
+        }
+    }
+
+    private RewardStreamService standalone(Duration sendTimeout) {
+        return new RewardStreamService(objectMapper, new SimpleMeterRegistry(), 16, 16,
+                Duration.ofMinutes(1), Duration.ofSeconds(1), sendTimeout, false, 8);
+    }
+
+    // Ids are <epoch>-<sequence>
+    private static long sequenceOf(String eventId) {
+        return Long.parseLong(eventId.substring(eventId.lastIndexOf('-') + 1));
+    }
+
+    private RewardDTO reward(int points) {
+        return RewardDTO.builder()
+                .employeeId(employee.getId())
+                .rewardName("Stream Award")
+                .rewardType("Teamwork")
+                .points(points)
+                .dateAwarded(LocalDate.of(2024, 5, 1))
+                .build();
+    }
+
+    private long idOf(Event event) throws Exception {
+        return objectMapper.readTree(event.data()).get("id").asLong();
+    }
+
+    // Returns once the response headers arrive; the subscription is registered before they are sent
+    private Subscription subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/rewards/stream"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        Subscription subscription = new Subscription();
+        subscriptions.add(subscription);
+        HttpResponse<Stream<String>> response = client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines())
+                .get(10, TimeUnit.SECONDS);
+        subscription.start(response.body());
+        return subscription;
+    }
+
+    private record Event(String id, String name, String data) {
+    }
+
+    // The opening heartbeat is written before Spring MVC takes the emitter over and only buffered, so it never
+    // blocks; every later send does
+    private static final class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile boolean opened;
+        private volatile boolean failed;
+
+        StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (!opened) {
+                opened = true;
+                return;
+            }
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Client went away");
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed = true;
+            super.completeWithError(ex);
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream().map(part -> String.valueOf(part.getData())).collect(Collectors.joining()));
+        }
+
+        String nextEventContaining(String text) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                String event = sent.poll(100, TimeUnit.MILLISECONDS);
+                if (event != null && event.contains(text)) {
+                    return event;
+                }
+            }
+            throw new AssertionError("no event containing " + text);
+        }
+    }
+
+    private static final class Subscription {
+
+        private final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+        private Stream<String> lines;
+
+        void start(Stream<String> body) {
+            lines = body;
+            CompletableFuture.runAsync(() -> {
+                String id = null;
+                String name = null;
+                StringBuilder data = new StringBuilder();
+                try {
+                    for (String line : (Iterable<String>) body::iterator) {
+                        if (line.isEmpty()) {
+                            if (name != null) {
+                                events.add(new Event(id, name, data.toString()));
+                            }
+                            id = null;
+                            name = null;
+                            data.setLength(0);
+                        } else if (line.startsWith("id:")) {
+                            id = line.substring(3);
+                        } else if (line.startsWith("event:")) {
+                            name = line.substring(6);
+                        } else if (line.startsWith("data:")) {
+                            data.append(line.substring(5));
+                        }
+                    }
+                } catch (RuntimeException ex) {
+                    // Closed by the test
+                }
+            });
+        }
+
+        Event next() throws InterruptedException {
+            Event event = events.poll(10, TimeUnit.SECONDS);
+            assertThat(event).as("feed event").isNotNull();
+            return event;
+        }
+
+        void close() {
+            if (lines != null) {
+                lines.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.EmployeeDTO;
+import com.rewardapp.repository.EmployeeRewardStats;
+import com.rewardapp.repository.EmployeeRewardSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two first awards of one employee in separate, committed transactions: the second finds no row, then
+// collides with the first's insert once that commits
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:summary-concurrency;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class RewardSummaryConcurrencyTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RewardSummaryService rewardSummaryService;
+
+    @Autowired
+    private EmployeeRewardSummaryRepository summaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void whenTwoFirstAwardsRace_thenBothAreCountedInOneRow() throws Exception {
+        // given
+        Long employeeId = employeeService.createEmployee(EmployeeDTO.builder()
+                .name("Concurrent Awardee")
+                .email("concurrent.awardee." + System.nanoTime() + "@example.com")
+                .department("QA")
+                .build()).getId();
+        TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactions.executeWithoutResult(status -> {
+            rewardSummaryService.recordAwards(employeeId, 1, 100, LocalDate.of(2024, 1, 10));
+            firstInserted.countDown();
+            await(commitFirst);
+        }));
+        assertThat(firstInserted.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactions.executeWithoutResult(status ->
+                rewardSummaryService.recordAwards(employeeId, 1, 50, LocalDate.of(2024, 2, 10))));
+        Thread.sleep(200);
+        commitFirst.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        // then
+        EmployeeRewardStats summary = summaryRepository.findStatsByEmployeeId(employeeId).orElseThrow();
+        assertThat(summary.getRewardCount()).isEqualTo(2);
+        assertThat(summary.getTotalPoints()).isEqualTo(150);
+        assertThat(summary.getLastAwardDate()).isEqualTo(LocalDate.of(2024, 2, 10));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
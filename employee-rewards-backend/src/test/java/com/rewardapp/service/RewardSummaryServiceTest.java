@@ -0,0 +1,112 @@
+package com.rewardapp.service;
+
+import com.rewardapp.dto.RewardDTO;
+import com.rewardapp.entity.Employee;
+import com.rewardapp.entity.EmployeeRewardSummary;
+import com.rewardapp.entity.Reward;
+import com.rewardapp.repository.EmployeeRewardSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RewardService.class, RewardSummaryService.class, LeaderboardService.class, SnapshotGate.class,
+        DataVersions.class, RewardAnalyticsService.class, OutboxService.class})
+public class RewardSummaryServiceTest {
+
+    @MockBean
+    private RewardStreamService rewardStreamService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private RewardSummaryService rewardSummaryService;
+
+    @Autowired
+    private EmployeeRewardSummaryRepository summaryRepository;
+
+    private Employee alice;
+    private Employee bob;
+
+    @BeforeEach
+    public void setUp() {
+        alice = entityManager.persist(Employee.builder()
+                .name("Alice Wonderland").email("alice@example.com").department("Marketing").build());
+        bob = entityManager.persist(Employee.builder()
+                .name("Bob Builder").email("bob@example.com").department("Engineering").build());
+        entityManager.flush();
+    }
+
+    @Test
+    public void whenAssignUpdateAndDeleteRewards_thenSummaryTracksRewards() {
+        // when
+        RewardDTO first = rewardService.assignReward(reward(alice, 100, LocalDate.of(2024, 1, 10)));
+        RewardDTO second = rewardService.assignReward(reward(alice, 50, LocalDate.of(2024, 2, 10)));
+
+        // then
+        assertSummary(alice, 2, 150, LocalDate.of(2024, 2, 10));
+
+        // when the second reward moves to bob
+        rewardService.updateReward(second.getId(), reward(bob, 70, LocalDate.of(2024, 3, 1)));
+
+        // then
+        assertSummary(alice, 1, 100, LocalDate.of(2024, 1, 10));
+        assertSummary(bob, 1, 70, LocalDate.of(2024, 3, 1));
+
+        // when
+        rewardService.deleteReward(first.getId());
+
+        // then
+        assertSummary(alice, 0, 0, null);
+        assertThat(rewardSummaryService.verify()).isZero();
+    }
+
+    @Test
+    public void whenRewardsWrittenBehindTheService_thenVerifyDetectsDriftAndRebuildRepairs() {
+        // given
+        rewardService.assignReward(reward(alice, 100, LocalDate.of(2024, 1, 10)));
+        entityManager.persist(Reward.builder()
+                .employee(bob).rewardName("Manual Award").dateAwarded(LocalDate.of(2024, 4, 1)).points(30).build());
+        entityManager.flush();
+
+        // when
+        int drift = rewardSummaryService.verify();
+        rewardSummaryService.rebuild();
+
+        // then
+        assertThat(drift).isEqualTo(1);
+        assertThat(rewardSummaryService.verify()).isZero();
+        assertSummary(bob, 1, 30, LocalDate.of(2024, 4, 1));
+    }
+
+    private void assertSummary(Employee employee, long count, long points, LocalDate lastAwardDate) {
+        entityManager.flush();
+        entityManager.clear();
+        EmployeeRewardSummary summary = summaryRepository.findById(employee.getId()).orElseThrow();
+        assertThat(summary.getRewardCount()).isEqualTo(count);
+        assertThat(summary.getTotalPoints()).isEqualTo(points);
+        assertThat(summary.getLastAwardDate()).isEqualTo(lastAwardDate);
+    }
+
+    private RewardDTO reward(Employee employee, int points, LocalDate dateAwarded) {
+        return RewardDTO.builder()
+                .employeeId(employee.getId())
+                .rewardName("Spot Award")
+                .rewardType("Performance")
+                .dateAwarded(dateAwarded)
+                .points(points)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.rewardapp.service;
+
+import com.rewardapp.entity.Employee;
+import com.rewardapp.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not rolled back: the generator commits per chunk and H2 commits on ALTER SEQUENCE
+@DataJpaTest
+@Import(SyntheticDataGenerator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void whenGenerate_thenInsertSkewedDataAndAdvanceSequences() {
+        // when
+        generator.generate(500, 20_000, 1_000, 42L);
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM employees")).isEqualTo(500);
+        assertThat(count("SELECT COUNT(DISTINCT email) FROM employees")).isEqualTo(500);
+        assertThat(count("SELECT COUNT(*) FROM rewards")).isEqualTo(20_000);
+        assertThat(count("SELECT COUNT(*) FROM rewards WHERE date_awarded > ?", LocalDate.now()))
+                .isZero();
+
+        List<Long> perDepartment = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM employees GROUP BY department ORDER BY COUNT(*) DESC", Long.class);
+        assertThat(perDepartment.get(0)).isGreaterThan(3 * perDepartment.get(perDepartment.size() - 1));
+
+        Map<String, Object> recent = jdbcTemplate.queryForMap(
+                "SELECT SUM(CASE WHEN date_awarded >= ? THEN 1 ELSE 0 END) AS recent, COUNT(*) AS total FROM rewards",
+                LocalDate.now().minusDays(180));
+        assertThat(((Number) recent.get("recent")).doubleValue() / ((Number) recent.get("total")).doubleValue())
+                .isGreaterThan(0.5);
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM employees", Long.class);
+        Employee saved = employeeRepository.save(Employee.builder()
+                .name("After Load").email("after.load@example.com").department("HR").build());
+        assertThat(saved.getId()).isGreaterThan(maxId);
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
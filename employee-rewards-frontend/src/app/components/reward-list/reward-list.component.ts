@@ -1,4 +1,4 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnInit, OnDestroy } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { MatCardModule } from '@angular/material/card';
 import { MatButtonModule } from '@angular/material/button';
@@ -12,7 +12,8 @@ import { MatTooltipModule } from '@angular/material/tooltip';
 import { MatProgressSpinnerModule } from '@angular/material/progress-spinner';
 import { MatTableModule } from '@angular/material/table';
 import { RewardService } from '../../services/reward.service';
-import { Reward } from '../../models/models';
+import { Reward, RewardStreamEvent } from '../../models/models';
+import { Subscription } from 'rxjs';
 import { AssignRewardDialogComponent } from './assign-reward.component';
 
 // ----- Reward List Component ---------------------------------------------------
@@ -25,12 +26,16 @@ import { AssignRewardDialogComponent } from './assign-reward.component';
   templateUrl: './reward-list.component.html',
   styleUrls: ['./reward-list.component.css']
 })
-export class RewardListComponent implements OnInit {
+export class RewardListComponent implements OnInit, OnDestroy {
   rewards: Reward[] = [];
   filteredRewards: Reward[] = [];
   filterTypes = ['All', 'Performance', 'Innovation', 'Teamwork', 'Customer Service'];
   activeFilter = 'All';
   loading = true;
+  private stream?: Subscription;
+  private load?: Subscription;
+  // Feed events that arrive while the list loads, applied on top of it; null when no load is running
+  private pending: RewardStreamEvent[] | null = null;
 
   constructor(
     private rewardService: RewardService,
@@ -38,25 +43,74 @@ export class RewardListComponent implements OnInit {
     private snackBar: MatSnackBar
   ) {}
 
+  // Changes (including this user's own) arrive over the live feed instead of re-fetching the list. The list
+  // is loaded once the feed is connected, so every change committed after its query arrives over the feed
   ngOnInit(): void {
-    this.loadRewards();
+    this.stream = this.rewardService.streamRewards().subscribe(event => this.applyStreamEvent(event));
   }
 
+  ngOnDestroy(): void {
+    this.stream?.unsubscribe();
+    this.load?.unsubscribe();
+  }
+
+  // Replaying the held-back events is safe: each one sets or removes whole rewards, in feed order
   loadRewards(): void {
     this.loading = true;
-    this.rewardService.getAllRewards().subscribe({
+    this.pending = [];
+    this.load?.unsubscribe();
+    this.load = this.rewardService.getAllRewards().subscribe({
       next: data => {
+        const pending = this.pending ?? [];
+        this.pending = null;
         this.rewards = data;
+        pending.forEach(event => this.applyStreamEvent(event));
         this.applyFilter();
         this.loading = false;
       },
       error: () => {
+        this.pending = null;
+        this.load = undefined;
         this.snackBar.open('Failed to load rewards', 'Close', { duration: 3000 });
         this.loading = false;
       }
     });
   }
 
+  applyStreamEvent(event: RewardStreamEvent): void {
+    if (event.type === 'open') {
+      // Reconnects resume from Last-Event-ID; only a connect without a loaded list needs it
+      if (!this.load) {
+        this.loadRewards();
+      }
+      return;
+    }
+    if (this.pending && event.type !== 'reset') {
+      this.pending.push(event);
+      return;
+    }
+    switch (event.type) {
+      case 'assigned':
+      case 'updated': {
+        const index = this.rewards.findIndex(r => r.id === event.reward.id);
+        this.rewards = index >= 0
+          ? this.rewards.map((r, i) => i === index ? event.reward : r)
+          : [event.reward, ...this.rewards];
+        break;
+      }
+      case 'deleted':
+        this.rewards = this.rewards.filter(r => r.id !== event.reward.id);
+        break;
+      case 'employee-deleted':
+        this.rewards = this.rewards.filter(r => r.employeeId !== event.employeeId);
+        break;
+      case 'reset':
+        this.loadRewards();
+        return;
+    }
+    this.applyFilter();
+  }
+
   setFilter(type: string): void {
     this.activeFilter = type;
     this.applyFilter();
@@ -76,10 +130,7 @@ export class RewardListComponent implements OnInit {
     ref.afterClosed().subscribe(result => {
       if (result) {
         this.rewardService.assignReward(result).subscribe({
-          next: () => {
-            this.loadRewards();
-            this.snackBar.open('Reward assigned!', 'Close', { duration: 3000 });
-          },
+          next: () => this.snackBar.open('Reward assigned!', 'Close', { duration: 3000 }),
           error: () => this.snackBar.open('Failed to assign reward', 'Close', { duration: 3000 })
         });
       }
@@ -94,10 +145,7 @@ export class RewardListComponent implements OnInit {
     ref.afterClosed().subscribe(result => {
       if (result) {
         this.rewardService.updateReward(reward.id!, result).subscribe({
-          next: () => {
-            this.loadRewards();
-            this.snackBar.open('Reward updated!', 'Close', { duration: 3000 });
-          },
+          next: () => this.snackBar.open('Reward updated!', 'Close', { duration: 3000 }),
           error: () => this.snackBar.open('Failed to update', 'Close', { duration: 3000 })
         });
       }
@@ -107,10 +155,7 @@ export class RewardListComponent implements OnInit {
   deleteReward(reward: Reward): void {
     if (confirm(`Delete the "${reward.rewardName}" reward?`)) {
       this.rewardService.deleteReward(reward.id!).subscribe({
-        next: () => {
-          this.loadRewards();
-          this.snackBar.open('Reward deleted', 'Close', { duration: 3000 });
-        },
+        next: () => this.snackBar.open('Reward deleted', 'Close', { duration: 3000 }),
         error: () => this.snackBar.open('Failed to delete', 'Close', { duration: 3000 })
       });
     }
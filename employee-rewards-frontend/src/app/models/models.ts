@@ -21,6 +21,13 @@ export interface Reward {
   description?: string;
 }
 
+// Live reward feed (GET /api/rewards/stream); 'reset' means events were missed and the list must be reloaded
+export type RewardStreamEvent =
+  | { type: 'assigned' | 'updated' | 'deleted'; reward: Reward }
+  | { type: 'employee-deleted'; employeeId: number }
+  | { type: 'reset' }
+  | { type: 'open' };
+
 export interface ApiResponse<T> {
   success: boolean;
   message: string;
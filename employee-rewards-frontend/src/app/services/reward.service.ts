@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable, map } from 'rxjs';
-import { Reward, ApiResponse } from '../models/models';
+import { Reward, ApiResponse, RewardStreamEvent } from '../models/models';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -48,6 +48,24 @@ export class RewardService {
     );
   }
 
+  // EventSource reconnects on its own and sends Last-Event-ID, so the server replays what was missed.
+  // Emits 'open' whenever the feed is connected, reconnects included.
+  streamRewards(): Observable<RewardStreamEvent> {
+    return new Observable<RewardStreamEvent>(subscriber => {
+      const source = new EventSource(`${this.apiUrl}/stream`);
+      source.addEventListener('open', () => subscriber.next({ type: 'open' }));
+      const rewardEvent = (type: 'assigned' | 'updated' | 'deleted') => (event: MessageEvent) =>
+        subscriber.next({ type, reward: JSON.parse(event.data) });
+      source.addEventListener('assigned', rewardEvent('assigned'));
+      source.addEventListener('updated', rewardEvent('updated'));
+      source.addEventListener('deleted', rewardEvent('deleted'));
+      source.addEventListener('employee-deleted', (event: MessageEvent) =>
+        subscriber.next({ type: 'employee-deleted', employeeId: JSON.parse(event.data).employeeId }));
+      source.addEventListener('reset', () => subscriber.next({ type: 'reset' }));
+      return () => source.close();
+    });
+  }
+
   getRewardTypes(): Observable<string[]> {
     return this.http.get<ApiResponse<string[]>>(`${this.apiUrl}/types`).pipe(
       map(res => res.data)